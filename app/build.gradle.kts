@@ -36,6 +36,14 @@ android {
         jvmTarget = "11"
         freeCompilerArgs = listOf("-XXLanguage:+PropertyParamAnnotationDefaultTargetMode")
     }
+    testOptions {
+        unitTests.all {
+            // Micro-benchmarks are slow and print their timings, so they only run with -Pbenchmark
+            if (!project.hasProperty("benchmark")) {
+                it.exclude("**/*Benchmark.class")
+            }
+        }
+    }
 }
 
 dependencies {
@@ -49,8 +57,15 @@ dependencies {
 
     // Room DB
     implementation(libs.room.runtime)
+    implementation(libs.room.paging)
     implementation(libs.recyclerview)
 
+    // Paging
+    implementation(libs.paging.runtime)
+
+    // WorkManager (recurring transactions)
+    implementation(libs.work.runtime.ktx)
+
     // DataStore
     implementation(libs.datastore.preferences)
     implementation(libs.datastore.preferences.core)
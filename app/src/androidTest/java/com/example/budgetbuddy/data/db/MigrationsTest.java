@@ -0,0 +1,305 @@
+package com.example.budgetbuddy.data.db;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.budgetbuddy.domain.entities.MonthlySummary;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Tests the schema migrations in <code>Migrations</code> against an in-memory database
+ * created with the version 1 schema, using arrange-act-assert pattern
+ */
+@RunWith(AndroidJUnit4.class)
+public class MigrationsTest
+{
+    private SupportSQLiteOpenHelper helper;
+    private SupportSQLiteDatabase db;
+    private TimeZone defaultZone;
+
+    @Before
+    public void setUp()
+    {
+        // In-memory database (null name) created with the version 1 tables
+        SupportSQLiteOpenHelper.Configuration configuration = SupportSQLiteOpenHelper.Configuration
+                .builder(ApplicationProvider.getApplicationContext())
+                .name(null)
+                .callback(new SupportSQLiteOpenHelper.Callback(1)
+                {
+                    @Override
+                    public void onCreate(@NonNull SupportSQLiteDatabase db)
+                    {
+                        db.execSQL("CREATE TABLE IF NOT EXISTS `category` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `name` TEXT NOT NULL, `colour` INTEGER NOT NULL)");
+                        db.execSQL("CREATE TABLE IF NOT EXISTS `transaction` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `amount` REAL NOT NULL, `type` TEXT NOT NULL, `datetime` INTEGER NOT NULL, `categoryID` INTEGER NOT NULL, `repeat` TEXT NOT NULL)");
+                    }
+
+                    @Override
+                    public void onUpgrade(@NonNull SupportSQLiteDatabase db, int oldVersion, int newVersion)
+                    {
+                    }
+                })
+                .build();
+
+        helper = new FrameworkSQLiteOpenHelperFactory().create(configuration);
+        db = helper.getWritableDatabase();
+        defaultZone = TimeZone.getDefault();
+    }
+
+    @After
+    public void tearDown()
+    {
+        TimeZone.setDefault(defaultZone);
+        helper.close();
+    }
+
+    @Test
+    public void testMigration1To2KeepsValidRows()
+    {
+        // Arrange - one category, two transactions referencing it and one orphan
+        db.execSQL("INSERT INTO `category` (`id`, `name`, `colour`) VALUES (1, 'Shopping', 0)");
+        db.execSQL("INSERT INTO `transaction` VALUES (1, 10.5, 'OUTGOING', 1000, 1, 'NEVER')");
+        db.execSQL("INSERT INTO `transaction` VALUES (2, 20.0, 'INCOMING', 2000, 1, 'MONTHLY')");
+        db.execSQL("INSERT INTO `transaction` VALUES (3, 5.0, 'OUTGOING', 3000, 99, 'NEVER')");
+
+        // Act
+        Migrations.MIGRATION_1_2.migrate(db);
+
+        // Assert - valid rows are copied with their ids and values, the orphan is dropped
+        try (Cursor cursor = db.query("SELECT `id`, `amount`, `type`, `datetime`, `categoryID`, `repeat` FROM `transaction` ORDER BY `id`"))
+        {
+            assertEquals(2, cursor.getCount());
+
+            cursor.moveToFirst();
+            assertEquals(1, cursor.getLong(0));
+            assertEquals(10.5, cursor.getDouble(1), 0.0);
+            assertEquals("OUTGOING", cursor.getString(2));
+            assertEquals(1000, cursor.getLong(3));
+            assertEquals(1, cursor.getLong(4));
+            assertEquals("NEVER", cursor.getString(5));
+
+            cursor.moveToNext();
+            assertEquals(2, cursor.getLong(0));
+            assertEquals("MONTHLY", cursor.getString(5));
+        }
+    }
+
+    @Test
+    public void testMigration1To2AddsIndices()
+    {
+        Migrations.MIGRATION_1_2.migrate(db);
+
+        Set<String> indices = new HashSet<>();
+        try (Cursor cursor = db.query("PRAGMA index_list(`transaction`)"))
+        {
+            int nameColumn = cursor.getColumnIndexOrThrow("name");
+            while (cursor.moveToNext())
+            {
+                indices.add(cursor.getString(nameColumn));
+            }
+        }
+
+        assertTrue(indices.contains("index_transaction_datetime"));
+        assertTrue(indices.contains("index_transaction_categoryID"));
+    }
+
+    @Test
+    public void testMigration1To2AddsForeignKey()
+    {
+        Migrations.MIGRATION_1_2.migrate(db);
+
+        try (Cursor cursor = db.query("PRAGMA foreign_key_list(`transaction`)"))
+        {
+            assertEquals(1, cursor.getCount());
+
+            cursor.moveToFirst();
+            assertEquals("category", cursor.getString(cursor.getColumnIndexOrThrow("table")));
+            assertEquals("categoryID", cursor.getString(cursor.getColumnIndexOrThrow("from")));
+            assertEquals("id", cursor.getString(cursor.getColumnIndexOrThrow("to")));
+            assertEquals("RESTRICT", cursor.getString(cursor.getColumnIndexOrThrow("on_delete")));
+        }
+    }
+
+    @Test
+    public void testMigration2To3ConvertsAmountsToMinorUnits()
+    {
+        // Arrange - REAL amounts, including one that is inexact in binary floating point
+        db.execSQL("INSERT INTO `category` (`id`, `name`, `colour`) VALUES (1, 'Shopping', 0)");
+        db.execSQL("INSERT INTO `transaction` VALUES (1, 19.99, 'OUTGOING', 1000, 1, 'NEVER')");
+        db.execSQL("INSERT INTO `transaction` VALUES (2, 0.1, 'OUTGOING', 2000, 1, 'NEVER')");
+        db.execSQL("INSERT INTO `transaction` VALUES (3, 250, 'INCOMING', 3000, 1, 'NEVER')");
+
+        // Act
+        Migrations.MIGRATION_1_2.migrate(db);
+        Migrations.MIGRATION_2_3.migrate(db);
+
+        // Assert - amounts are whole pence stored as INTEGER
+        try (Cursor cursor = db.query("SELECT `amount`, typeof(`amount`) FROM `transaction` ORDER BY `id`"))
+        {
+            assertEquals(3, cursor.getCount());
+
+            cursor.moveToFirst();
+            assertEquals(1999, cursor.getLong(0));
+            assertEquals("integer", cursor.getString(1));
+
+            cursor.moveToNext();
+            assertEquals(10, cursor.getLong(0));
+
+            cursor.moveToNext();
+            assertEquals(25000, cursor.getLong(0));
+        }
+
+        // The SQL sum is now exact
+        try (Cursor cursor = db.query("SELECT SUM(`amount`) FROM `transaction` WHERE `type` = 'OUTGOING'"))
+        {
+            cursor.moveToFirst();
+            assertEquals(2009, cursor.getLong(0));
+        }
+    }
+
+    @Test
+    public void testMigration4To5LinksRulesToTheirTransaction()
+    {
+        // Arrange - one repeating transaction and one one-off
+        migrateTo(4);
+        db.execSQL("INSERT INTO `category` (`id`, `name`, `colour`) VALUES (1, 'Shopping', 0)");
+        db.execSQL("INSERT INTO `transaction` (`id`, `amount`, `type`, `datetime`, `categoryID`, `repeat`) VALUES (1, 500, 'OUTGOING', 1000, 1, 'MONTHLY')");
+        db.execSQL("INSERT INTO `transaction` (`id`, `amount`, `type`, `datetime`, `categoryID`, `repeat`) VALUES (2, 300, 'OUTGOING', 2000, 1, 'NEVER')");
+
+        // Act
+        Migrations.MIGRATION_4_5.migrate(db);
+
+        // Assert - only the repeating transaction becomes a rule, linked to it
+        try (Cursor cursor = db.query("SELECT `sourceTransactionID`, `startDateTime`, `lastMaterialized` FROM `recurring_rule`"))
+        {
+            assertEquals(1, cursor.getCount());
+
+            cursor.moveToFirst();
+            assertEquals(1, cursor.getLong(0));
+            assertEquals(1000, cursor.getLong(1));
+            assertEquals(1000, cursor.getLong(2));
+        }
+
+        // Deleting the transaction deletes its rule
+        db.execSQL("PRAGMA foreign_keys = ON");
+        db.execSQL("DELETE FROM `transaction` WHERE `id` = 1");
+        assertEquals(0, count("recurring_rule"));
+    }
+
+    @Test
+    public void testMigration5To6StoresMonthIndexAndFillsSummary()
+    {
+        // Arrange - two transactions in one month, one in the next
+        migrateTo(5);
+        long june = millis(LocalDateTime.of(2026, 6, 10, 12, 0), ZoneId.systemDefault());
+        long july = millis(LocalDateTime.of(2026, 7, 10, 12, 0), ZoneId.systemDefault());
+        db.execSQL("INSERT INTO `category` (`id`, `name`, `colour`) VALUES (1, 'Shopping', 0)");
+        db.execSQL("INSERT INTO `transaction` (`amount`, `type`, `datetime`, `categoryID`, `repeat`) VALUES (500, 'OUTGOING', " + june + ", 1, 'NEVER')");
+        db.execSQL("INSERT INTO `transaction` (`amount`, `type`, `datetime`, `categoryID`, `repeat`) VALUES (200, 'INCOMING', " + june + ", 1, 'NEVER')");
+        db.execSQL("INSERT INTO `transaction` (`amount`, `type`, `datetime`, `categoryID`, `repeat`) VALUES (300, 'OUTGOING', " + july + ", 1, 'NEVER')");
+
+        // Act
+        Migrations.MIGRATION_5_6.migrate(db);
+
+        // Assert - each row's month is stored, and the summary is built from it
+        try (Cursor cursor = db.query("SELECT `month_index` FROM `transaction` ORDER BY `id`"))
+        {
+            cursor.moveToFirst();
+            assertEquals(MonthlySummary.monthIndexOf(YearMonth.of(2026, 6)), cursor.getInt(0));
+            cursor.moveToLast();
+            assertEquals(MonthlySummary.monthIndexOf(YearMonth.of(2026, 7)), cursor.getInt(0));
+        }
+        try (Cursor cursor = db.query("SELECT `month_index`, `spend`, `income`, `count` FROM `monthly_summary` ORDER BY `month_index`"))
+        {
+            assertEquals(2, cursor.getCount());
+
+            cursor.moveToFirst();
+            assertEquals(MonthlySummary.monthIndexOf(YearMonth.of(2026, 6)), cursor.getInt(0));
+            assertEquals(500, cursor.getLong(1));
+            assertEquals(200, cursor.getLong(2));
+            assertEquals(2, cursor.getInt(3));
+        }
+
+        // The triggers keep it up to date from now on
+        db.execSQL("INSERT INTO `transaction` (`amount`, `type`, `datetime`, `categoryID`, `repeat`, `month_index`) VALUES (100, 'OUTGOING', " + july + ", 1, 'NEVER', "
+                + MonthlySummary.monthIndexOf(YearMonth.of(2026, 7)) + ")");
+        try (Cursor cursor = db.query("SELECT `spend`, `count` FROM `monthly_summary` WHERE `month_index` = " + MonthlySummary.monthIndexOf(YearMonth.of(2026, 7))))
+        {
+            cursor.moveToFirst();
+            assertEquals(400, cursor.getLong(0));
+            assertEquals(2, cursor.getInt(1));
+        }
+    }
+
+    @Test
+    public void testMonthlySummaryDeleteAfterTimeZoneChange()
+    {
+        // Arrange - 00:30 on 1st July in London, which is still 30th June in UTC.
+        // The month is worked out in the zone the transaction is saved in, as Transaction does
+        migrateTo(6);
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+        long dateTime = millis(LocalDateTime.of(2026, 7, 1, 0, 30), ZoneId.systemDefault());
+        int monthIndex = MonthlySummary.monthIndexOf(dateTime, ZoneId.systemDefault());
+
+        db.execSQL("INSERT INTO `category` (`id`, `name`, `colour`) VALUES (1, 'Shopping', 0)");
+        db.execSQL("INSERT INTO `transaction` (`id`, `amount`, `type`, `datetime`, `categoryID`, `repeat`, `month_index`) " +
+                "VALUES (1, 500, 'OUTGOING', " + dateTime + ", 1, 'NEVER', " + monthIndex + ")");
+        assertEquals(1, count("monthly_summary"));
+
+        // Act - the device moves to UTC before the transaction is deleted
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        db.execSQL("DELETE FROM `transaction` WHERE `id` = 1");
+
+        // Assert - the delete found July's summary row, nothing is left behind
+        assertEquals(0, count("monthly_summary"));
+    }
+
+
+    /**
+     * Runs every migration from version 1 up to <code>version</code>
+     */
+    private void migrateTo(int version)
+    {
+        for (Migration migration : Migrations.ALL)
+        {
+            if (migration.endVersion <= version)
+            {
+                migration.migrate(db);
+            }
+        }
+    }
+
+    private long count(String table)
+    {
+        try (Cursor cursor = db.query("SELECT COUNT(*) FROM `" + table + "`"))
+        {
+            cursor.moveToFirst();
+            return cursor.getLong(0);
+        }
+    }
+
+    private static long millis(LocalDateTime dateTime, ZoneId zone)
+    {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -1,12 +1,21 @@
 package com.example.budgetbuddy
 
 import android.app.Application
+import com.example.budgetbuddy.work.RecurringTransactionWorker
 import dagger.hilt.android.HiltAndroidApp
 
 /**
  * Class extending Application serving as the application-level dependency container with
  * [Hilt](https://developer.android.com/training/dependency-injection/hilt-android#kts)
  *
+ * Schedules the recurring transaction job on startup.
  */
 @HiltAndroidApp
-class BudgetBuddyApplication : Application()
\ No newline at end of file
+class BudgetBuddyApplication : Application()
+{
+    override fun onCreate()
+    {
+        super.onCreate()
+        RecurringTransactionWorker.schedule(this)
+    }
+}
\ No newline at end of file
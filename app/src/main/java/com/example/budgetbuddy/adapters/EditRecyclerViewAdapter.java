@@ -6,18 +6,24 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 
+import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.PagingDataAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.budgetbuddy.R;
 import com.example.budgetbuddy.domain.entities.TransactionWithCategory;
+import com.example.budgetbuddy.ui.TransactionRowModel;
 
 import java.util.List;
 
 /**
- * Extends RecyclerViewAdapter to provide transaction deletion functionality
+ * Extends <code>PagingDataAdapter</code> to display the paged transaction history with
+ * transaction deletion functionality. Only the pages currently loaded by the <code>Pager</code>
+ * are held in memory; new pages are diffed on a background thread.
  */
-public class EditRecyclerViewAdapter extends RecyclerViewAdapter
+public class EditRecyclerViewAdapter extends PagingDataAdapter<TransactionRowModel, EditRecyclerViewAdapter.ViewHolder>
 {
 
     /**
@@ -28,19 +34,49 @@ public class EditRecyclerViewAdapter extends RecyclerViewAdapter
         void onDeleteClicked(TransactionWithCategory transaction);
     }
 
+    @LayoutRes
+    private final int resource;
     private final OnDeleteClickListener onDeleteClickListener;
+    @Nullable
+    private final SharedRowPool rowPool;
 
     /**
      * Constructs a new <code>EditRecyclerViewAdapter</code>
      *
-     * @param transactions          A <code>List</code> of <code>TransactionWithCategory</code> objects
      * @param onDeleteClickListener The behaviour for the delete button
      * @param resource              The layout.xml file for the items
      */
-    public EditRecyclerViewAdapter(List<TransactionWithCategory> transactions, OnDeleteClickListener onDeleteClickListener, int resource)
+    public EditRecyclerViewAdapter(OnDeleteClickListener onDeleteClickListener, @LayoutRes int resource)
     {
-        super(transactions, resource);
+        this(onDeleteClickListener, resource, null);
+    }
+
+    /**
+     * Constructs a new <code>EditRecyclerViewAdapter</code> taking rows from <code>rowPool</code> when it has them
+     *
+     * @param onDeleteClickListener The behaviour for the delete button
+     * @param resource              The layout.xml file for the items
+     * @param rowPool               the activity's <code>SharedRowPool</code>, or null to always inflate
+     */
+    public EditRecyclerViewAdapter(OnDeleteClickListener onDeleteClickListener, @LayoutRes int resource, @Nullable SharedRowPool rowPool)
+    {
+        super(new TransactionDiffCallback());     // Diffs pages on a background thread
         this.onDeleteClickListener = onDeleteClickListener;
+        this.resource = resource;
+        this.rowPool = rowPool;
+    }
+
+    /**
+     * Uses the layout resource as the view type, so rows can share a <code>RecycledViewPool</code>
+     * with other adapters without being handed a row of a different layout
+     *
+     * @param position the position in the list
+     * @return the layout resource ID
+     */
+    @Override
+    public int getItemViewType(int position)
+    {
+        return resource;
     }
 
 
@@ -54,80 +90,107 @@ public class EditRecyclerViewAdapter extends RecyclerViewAdapter
      */
     @NonNull
     @Override
-    public RecyclerViewAdapter.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType)
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType)
     {
-        return new ViewHolder(LayoutInflater.from(parent.getContext()).inflate(resource, parent, false));
+        // Take a pre-inflated row if one is ready, otherwise inflate the layout
+        View view = rowPool != null
+                ? rowPool.inflate(parent, resource)
+                : LayoutInflater.from(parent.getContext()).inflate(resource, parent, false);
+        return new ViewHolder(view);
     }
 
     /**
-     * Overrides <code>onBindViewHolder</code> in <code>RecyclerViewAdapter</code> to load the layout passed to this class instead
+     * Binds the loaded item at <code>position</code> to the <code>ViewHolder</code>.
+     * Placeholders are disabled in the <code>PagingConfig</code>, but the null-check is kept
+     * as <code>getItem</code> is nullable.
      *
-     * @param holder   a <code>RecyclerViewAdapter.ViewHolder</code> object to bind the transaction list to
+     * @param holder   a <code>ViewHolder</code> object to bind the transaction to
      * @param position The position in the list to bind the <code>ViewHolder to</code>
      */
     @Override
-    public void onBindViewHolder(@NonNull RecyclerViewAdapter.ViewHolder holder, int position)
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position)
     {
-        if (holder instanceof ViewHolder)   // Check if the holder is using the ViewHolder defined here
+        TransactionRowModel row = getItem(position);
+        if (row != null)
         {
-            holder.bind(_transactions.get(position));
-        } else
+            holder.bind(row, onDeleteClickListener);
+        }
+    }
+
+    /**
+     * Rebinds only the changed views when <code>payloads</code> holds the flags from
+     * <code>TransactionDiffCallback.getChangePayload</code>. The delete button reads the row
+     * the holder was last bound to, so it is kept up to date here too.
+     *
+     * @param holder   a <code>ViewHolder</code> object to bind the transaction to
+     * @param position The position in the list to bind the <code>ViewHolder to</code>
+     * @param payloads the change payloads, or an empty list for a full bind
+     */
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position, @NonNull List<Object> payloads)
+    {
+        TransactionRowModel row = getItem(position);
+        if (payloads.isEmpty() || row == null)
         {
-            super.onBindViewHolder(holder, position);
+            onBindViewHolder(holder, position);
+            return;
         }
+        holder.bindChanges(row, TransactionDiffCallback.combinePayloads(payloads));
+        holder.boundRow = row;
     }
 
     /**
-     * Extends <code>RecyclerViewAdapter.ViewHolder</code> to inherit base functionality and implement the delete button
+     * Extends <code>RecyclerViewAdapter.ViewHolder</code> to inherit base functionality and implement the delete button.
+     * Static, and holds no reference to the adapter that created it, so it can be reused from the activity's
+     * <code>SharedRowPool</code> by a later adapter instance.
      */
-    public class ViewHolder extends RecyclerViewAdapter.ViewHolder
+    public static class ViewHolder extends RecyclerViewAdapter.ViewHolder
     {
-        private final ImageButton deleteButton;
+        @Nullable
+        private TransactionRowModel boundRow;
+        @Nullable
+        private OnDeleteClickListener onDeleteClickListener;
 
         /**
-         * Constructs a new <code>ViewHolder</code> for this object
+         * Constructs a new <code>ViewHolder</code> and sets up the delete button once
          *
          * @param itemView the <code>View</code> to create the <code>ViewHolder</code> from
          */
         public ViewHolder(@NonNull View itemView)
         {
             super(itemView);
-            deleteButton = itemView.findViewById(R.id.deleteButton);
+            ImageButton deleteButton = itemView.findViewById(R.id.deleteButton);
+            deleteButton.setOnClickListener(view -> onDeleteClicked());
         }
 
         /**
-         * Passes <code>transaction</code> to parent method.
-         * Passes <code>deleteButton</code> to <code>setDeleteButton</code>
+         * Passes <code>row</code> to parent method and records it for the delete button
          *
-         * @param transaction a <code>TransactionWithCategory</code> object
+         * @param row                   a <code>TransactionRowModel</code> object
+         * @param onDeleteClickListener the listener of the adapter binding this holder
          */
-        @Override
-        public void bind(@NonNull TransactionWithCategory transaction)
+        public void bind(@NonNull TransactionRowModel row, @Nullable OnDeleteClickListener onDeleteClickListener)
         {
-            super.bind(transaction);
-            setDeleteButton(deleteButton);
+            super.bind(row);
+            this.boundRow = row;
+            this.onDeleteClickListener = onDeleteClickListener;
         }
 
         /**
-         * Defines the behaviour of the delete button on each view.
-         * Removes the item from the internal list and notifies observers
-         *
-         * @param deleteButton the <code>ImageButton</code> objects
+         * Defines the behaviour of the delete button.
+         * Passes the bound item to the listener; Room invalidates the <code>PagingSource</code>
+         * and the refreshed page removes the row.
          */
-        private void setDeleteButton(@NonNull ImageButton deleteButton)
+        private void onDeleteClicked()
         {
-            deleteButton.setOnClickListener(view ->
+            // Ignore clicks on rows that are being removed
+            if (getBindingAdapterPosition() == RecyclerView.NO_POSITION || boundRow == null || onDeleteClickListener == null)
             {
-                int position = getBindingAdapterPosition();
-
-                if (position != RecyclerView.NO_POSITION && onDeleteClickListener != null)
-                {
-                    onDeleteClickListener.onDeleteClicked(_transactions.get(position));
-                    Log.v("EditRecyclerViewAdapter", "Deleted transaction " + _transactions.get(position).transaction.getId());
-                    _transactions.remove(position);             // Remove from RecyclerView's internal list
-                    notifyItemRemoved(position);                // Notify the RecyclerView observer
-                }
-            });
+                return;
+            }
+
+            onDeleteClickListener.onDeleteClicked(boundRow.getSource());
+            Log.v("EditRecyclerViewAdapter", "Deleted transaction " + boundRow.getId());
         }
     }
 }
@@ -1,6 +1,8 @@
 package com.example.budgetbuddy.adapters;
 
 import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -8,26 +10,53 @@ import android.widget.TextView;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.budgetbuddy.R;
 import com.example.budgetbuddy.domain.entities.PieChartLegendItem;
 import com.example.budgetbuddy.utility.ColorHandler;
 
-import java.util.List;
+import java.util.Objects;
 
 /**
- * Connects to a <code>RecyclerView</code> to display a list of <code>PieChartLegendItem</code> objects
+ * Connects to a <code>RecyclerView</code> to display a list of <code>PieChartLegendItem</code> objects.
+ * New legends are diffed against the current one, so rows that have not changed are not rebound.
  */
-public class PieChartLegendAdapter extends RecyclerView.Adapter<PieChartLegendAdapter.LegendViewHolder>
+public class PieChartLegendAdapter extends ListAdapter<PieChartLegendItem, PieChartLegendAdapter.LegendViewHolder>
 {
+    private static final int DRAWABLE_CACHE_SIZE = 8;   // Legend shows at most a handful of colours
+
+    /**
+     * Legend rows are the same row if they have the same name, and unchanged if every field matches
+     */
+    private static final DiffUtil.ItemCallback<PieChartLegendItem> DIFF_CALLBACK = new DiffUtil.ItemCallback<>()
+    {
+        @Override
+        public boolean areItemsTheSame(@NonNull PieChartLegendItem oldItem, @NonNull PieChartLegendItem newItem)
+        {
+            return Objects.equals(oldItem.getName(), newItem.getName());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull PieChartLegendItem oldItem, @NonNull PieChartLegendItem newItem)
+        {
+            return oldItem.equals(newItem);
+        }
+    };
+
     private final Context context;
-    private final List<PieChartLegendItem> legendItems;
 
-    public PieChartLegendAdapter(List<PieChartLegendItem> legendItems, Context context)
+    // Tinted colour squares by colour resource ID. Holds the shared ConstantState, each row gets its own Drawable from it.
+    // Lives as long as the adapter, which is recreated with the fragment on configuration (and night-mode) changes
+    private final LruCache<Integer, Drawable.ConstantState> tintedSquares = new LruCache<>(DRAWABLE_CACHE_SIZE);
+
+    public PieChartLegendAdapter(Context context)
     {
-        this.legendItems = legendItems;
+        super(DIFF_CALLBACK);
         this.context = context;
     }
 
@@ -59,26 +88,50 @@ public class PieChartLegendAdapter extends RecyclerView.Adapter<PieChartLegendAd
     {
 
         // Set the name and percentage, and change the colour of the colourBlock to the category colour
-        PieChartLegendItem item = legendItems.get(position);
+        PieChartLegendItem item = getItem(position);
 
-        @ColorInt int backgroundColour = ColorHandler.getColorARGB(context, item.getColor());
         holder.txtLegendName.setText(item.getName());
         holder.txtLegendPercentage.setText(item.getPercentage());
-        holder.colorBlock.setBackground(ColorHandler.createBackground(ContextCompat.getDrawable(context, R.drawable.colour_square), backgroundColour));
-    }
 
-    public void updateLegendItems(List<PieChartLegendItem> legendItems)
-    {
-        // Clear the list and redraw
-        this.legendItems.clear();
-        this.legendItems.addAll(legendItems);
-        notifyDataSetChanged();
+        // Only replace the colour square if this holder last showed a different colour
+        if (holder.boundColour != item.getColor())
+        {
+            holder.colorBlock.setBackground(getTintedSquare(item.getColor()));
+            holder.boundColour = item.getColor();
+        }
     }
 
-    @Override
-    public int getItemCount()
+    /**
+     * Gets a colour square tinted to <code>colorID</code>, tinting and caching it on first use
+     *
+     * @param colorID an id of a color in colors.xml
+     * @return a new <code>Drawable</code> sharing the cached tinted state
+     */
+    @Nullable
+    private Drawable getTintedSquare(int colorID)
     {
-        return legendItems.size();
+        Drawable.ConstantState state = tintedSquares.get(colorID);
+        if (state == null)
+        {
+            Drawable square = ContextCompat.getDrawable(context, R.drawable.colour_square);
+            if (square == null)
+            {
+                return null;
+            }
+
+            // Tint a private copy; the tint is part of the drawable's state, so copies keep it
+            @ColorInt int backgroundColour = ColorHandler.getColorARGB(context, colorID);
+            square = square.mutate();
+            square.setTint(backgroundColour);
+
+            state = square.getConstantState();
+            if (state == null)
+            {
+                return square;  // Cannot be shared, use it directly
+            }
+            tintedSquares.put(colorID, state);
+        }
+        return state.newDrawable(context.getResources());
     }
 
     /**
@@ -89,6 +142,7 @@ public class PieChartLegendAdapter extends RecyclerView.Adapter<PieChartLegendAd
         private final View colorBlock;
         private final TextView txtLegendName;
         private final TextView txtLegendPercentage;
+        private int boundColour = 0;    // Colour ID currently shown by colorBlock, 0 for none
 
         LegendViewHolder(@NonNull View itemView)
         {
@@ -1,5 +1,6 @@
 package com.example.budgetbuddy.adapters;
 
+import android.content.res.ColorStateList;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -7,39 +8,62 @@ import android.widget.TextView;
 
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
-import androidx.recyclerview.widget.DiffUtil;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.budgetbuddy.R;
-import com.example.budgetbuddy.domain.entities.Category;
-import com.example.budgetbuddy.domain.entities.Transaction;
-import com.example.budgetbuddy.domain.entities.TransactionWithCategory;
-import com.example.budgetbuddy.enums.TransactionType;
+import com.example.budgetbuddy.ui.TransactionRowModel;
 import com.example.budgetbuddy.utility.ColorHandler;
-import com.example.budgetbuddy.utility.Convertersold;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Extends <code>RecyclerView.Adapter</code>to display the layout for each <code>TransactionWithCategory</code>
+ * Extends <code>ListAdapter</code> to display the layout for each <code>TransactionRowModel</code>.
+ * New lists are diffed by an <code>AsyncListDiffer</code> on a background thread; if a newer list is
+ * submitted before a diff finishes, the older result is dropped and the newest list wins.
  */
-public class RecyclerViewAdapter extends RecyclerView.Adapter<RecyclerViewAdapter.ViewHolder>
+public class RecyclerViewAdapter extends ListAdapter<TransactionRowModel, RecyclerViewAdapter.ViewHolder>
 {
     @LayoutRes
     protected final int resource;
-    protected final List<TransactionWithCategory> _transactions = new ArrayList<>(); // Internal list
+    @Nullable
+    private final SharedRowPool rowPool;
 
     /**
-     * Constructs a new adapter
+     * Constructs a new adapter with an empty list. Call <code>submitList</code> to display transactions
      *
-     * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @param resource     the ID of the layout xml to load
+     * @param resource the ID of the layout xml to load
      */
-    public RecyclerViewAdapter(List<TransactionWithCategory> transactions, @LayoutRes int resource)
+    public RecyclerViewAdapter(@LayoutRes int resource)
     {
-        this._transactions.addAll(transactions);    // Instantiate list with transactions
-        this.resource = resource;                   // Instantiate layout
+        this(resource, null);
+    }
+
+    /**
+     * Constructs a new adapter with an empty list, taking rows from <code>rowPool</code> when it has them
+     *
+     * @param resource the ID of the layout xml to load
+     * @param rowPool  the activity's <code>SharedRowPool</code>, or null to always inflate
+     */
+    public RecyclerViewAdapter(@LayoutRes int resource, @Nullable SharedRowPool rowPool)
+    {
+        super(new TransactionDiffCallback());   // Diffs on the ListAdapter's background executor
+        this.resource = resource;               // Instantiate layout
+        this.rowPool = rowPool;
+    }
+
+    /**
+     * Uses the layout resource as the view type, so rows can share a <code>RecycledViewPool</code>
+     * with other adapters without being handed a row of a different layout
+     *
+     * @param position the position in the list
+     * @return the layout resource ID
+     */
+    @Override
+    public int getItemViewType(int position)
+    {
+        return resource;
     }
 
     /**
@@ -54,13 +78,15 @@ public class RecyclerViewAdapter extends RecyclerView.Adapter<RecyclerViewAdapte
     @Override
     public RecyclerViewAdapter.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType)
     {
-        // Inflate the layout for each item in the RecyclerView
-        View view = LayoutInflater.from(parent.getContext()).inflate(resource, parent, false);
+        // Take a pre-inflated row if one is ready, otherwise inflate the layout
+        View view = rowPool != null
+                ? rowPool.inflate(parent, resource)
+                : LayoutInflater.from(parent.getContext()).inflate(resource, parent, false);
         return new ViewHolder(view);
     }
 
     /**
-     * Bind the <code>TransactionWithCategory</code> at the passed <code>position</code> to the <code>ViewHolder</code>
+     * Bind the <code>TransactionRowModel</code> at the passed <code>position</code> to the <code>ViewHolder</code>
      *
      * @param holder   the <code>ViewHolder</code> object
      * @param position the position in the list to select
@@ -68,39 +94,33 @@ public class RecyclerViewAdapter extends RecyclerView.Adapter<RecyclerViewAdapte
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position)
     {
-        TransactionWithCategory transaction = _transactions.get(position);    // Get the object at the current position
-        holder.bind(transaction);   // Set the data in the view elements
-    }
-
-    /**
-     * @return the number of items in the list
-     */
-    @Override
-    public int getItemCount()
-    {
-        return _transactions.size();
+        holder.bind(getItem(position));     // Set the data in the view elements
     }
 
     /**
-     * Takes the current list and the new list and passes them to <code>DiffUtil.DiffResult</code>
-     * to update only the changed items in the list, then dispatches to the internal list
+     * Rebinds only the views whose fields changed, when <code>payloads</code> holds
+     * the flags from <code>TransactionDiffCallback.getChangePayload</code>.
+     * Binding in place also stops the item animator crossfading the row.
      *
-     * @param transactions the new list of <code>TransactionWithCategory</code> objects
+     * @param holder   the <code>ViewHolder</code> object
+     * @param position the position in the list to select
+     * @param payloads the change payloads, or an empty list for a full bind
      */
-    public void updateTransactions(List<TransactionWithCategory> transactions)
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position, @NonNull List<Object> payloads)
     {
-        // Compare the list held in the Adapter with the new list
-        final TransactionDiffCallback diffCallback = new TransactionDiffCallback(this._transactions, transactions);
-        final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-
-        this._transactions.clear();
-        this._transactions.addAll(transactions);           // Add the new list to the Adapter
-        diffResult.dispatchUpdatesTo(this);        // Pass the diffResult to the internal list
+        if (payloads.isEmpty())
+        {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        holder.bindChanges(getItem(position), TransactionDiffCallback.combinePayloads(payloads));
     }
 
 
     /**
-     * Extends <code>RecyclerView.ViewHolder</code> to provide a custom layout for list items
+     * Extends <code>RecyclerView.ViewHolder</code> to provide a custom layout for list items.
+     * Rows arrive pre-formatted as <code>TransactionRowModel</code> objects, so binding only assigns fields.
      */
     public static class ViewHolder extends RecyclerView.ViewHolder
     {
@@ -108,6 +128,10 @@ public class RecyclerViewAdapter extends RecyclerView.Adapter<RecyclerViewAdapte
         private final TextView textDateTime;
         private final TextView textAmount;
 
+        // Shared instances from the ColorHandler cache, looked up once per ViewHolder rather than on every bind
+        private final ColorStateList incomingColour;
+        private final ColorStateList outgoingColour;
+
         /**
          * Constructs a new <code>ViewHolder</code>
          *
@@ -120,36 +144,54 @@ public class RecyclerViewAdapter extends RecyclerView.Adapter<RecyclerViewAdapte
             textDateTime = itemView.findViewById(R.id.textDateTime);
             textCategory = itemView.findViewById(R.id.textCategory);
             textAmount = itemView.findViewById(R.id.textAmount);
+
+            incomingColour = ColorHandler.resolveColorID(itemView.getContext(), R.color.brightGreen);
+            outgoingColour = ColorHandler.resolveColorID(itemView.getContext(), R.color.brightRed);
         }
 
 
         /**
-         * Sets the layout to the data in <code>transactionWithCategory</code>
+         * Sets the layout to the data in <code>row</code>
          * Sets colour for negative/positive transactions and updates text fields
          *
-         * @param transactionWithCategory an item from the internal list
+         * @param row an item from the internal list
          */
-        public void bind(@NonNull TransactionWithCategory transactionWithCategory)
+        public void bind(@NonNull TransactionRowModel row)
         {
-            Transaction t = transactionWithCategory.transaction;
-            Category c = transactionWithCategory.category;
-
-            // Set the category and amount fields
-            textCategory.setText(c.getName());
-            textAmount.setText(Convertersold.doubleToCurrencyString(t.getAmount()));
+            textCategory.setText(row.getCategoryName());
+            bindAmount(row);
+            textDateTime.setText(row.getDateTimeText());
+        }
 
-            // Positive transactions are green
-            if (t.getType() == TransactionType.INCOMING)
+        /**
+         * Updates only the text fields flagged in <code>changes</code>
+         *
+         * @param row     an item from the internal list
+         * @param changes <code>TransactionDiffCallback.CHANGED_*</code> flags
+         */
+        public void bindChanges(@NonNull TransactionRowModel row, int changes)
+        {
+            if ((changes & TransactionDiffCallback.CHANGED_CATEGORY) != 0)
             {
-                textAmount.setText(Convertersold.doubleToCurrencyString(t.getAmount()));
-                textAmount.setTextColor(ColorHandler.resolveColorID(itemView.getContext(), R.color.brightGreen));
-            } else
+                textCategory.setText(row.getCategoryName());
+            }
+            if ((changes & TransactionDiffCallback.CHANGED_AMOUNT) != 0)
+            {
+                bindAmount(row);
+            }
+            if ((changes & TransactionDiffCallback.CHANGED_DATE_TIME) != 0)
             {
-                // Negative transactions are red with a minus sign
-                textAmount.setText(String.format("-%s", Convertersold.doubleToCurrencyString(t.getAmount())));
-                textAmount.setTextColor(ColorHandler.resolveColorID(itemView.getContext(), R.color.brightRed));
+                textDateTime.setText(row.getDateTimeText());
             }
-            textDateTime.setText(t.getDateTimeString());
+        }
+
+        /**
+         * Sets the amount field. Positive transactions are green, negative transactions are red
+         */
+        private void bindAmount(@NonNull TransactionRowModel row)
+        {
+            textAmount.setText(row.getAmountText());
+            textAmount.setTextColor(row.isIncoming() ? incomingColour : outgoingColour);
         }
     }
-}
\ No newline at end of file
+}
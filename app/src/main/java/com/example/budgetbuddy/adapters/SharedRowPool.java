@@ -0,0 +1,137 @@
+package com.example.budgetbuddy.adapters;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayDeque;
+
+/**
+ * Activity-scoped store of transaction rows shared by every <code>RecyclerView</code> in the <code>ViewPager2</code>.
+ * Holds one <code>RecycledViewPool</code> that outlives the fragments' views, so rows scrapped by one tab's
+ * list are reused when that list is recreated, and a set of row views pre-inflated while the main thread
+ * is idle after startup.
+ * Adapters use the layout resource as their view type, so rows from different layouts never mix in the pool.
+ * Must be used from the main thread.
+ */
+public final class SharedRowPool
+{
+    private static final int MAX_RECYCLED_PER_TYPE = 20;
+
+    /**
+     * Implemented by the activity that owns the <code>SharedRowPool</code>, so its fragments can find it
+     */
+    public interface Owner
+    {
+        @NonNull
+        SharedRowPool getSharedRowPool();
+    }
+
+    private final RecyclerView.RecycledViewPool recycledViewPool = new RecyclerView.RecycledViewPool();
+    private final SparseArray<ArrayDeque<View>> preInflated = new SparseArray<>();    // Keyed by layout resource
+
+    @Nullable
+    private LayoutInflater inflater;    // Null once the activity is destroyed
+
+
+    /**
+     * Schedules <code>count</code> rows of each layout in <code>layouts</code> to be inflated one at a time
+     * whenever the main thread's message queue is idle, starting after the first frames have been drawn.
+     * Rows are inflated with a clone of the activity's own inflater, so they go through the same AppCompat and
+     * Material view factory as rows inflated by the adapters and are interchangeable with them in the pool.
+     *
+     * @param activity the activity whose theme the rows are inflated with
+     * @param count    the number of rows to inflate per layout, roughly one screen's worth
+     * @param layouts  the layout resources the adapters inflate
+     */
+    public void preInflate(@NonNull Activity activity, int count, @LayoutRes int... layouts)
+    {
+        inflater = activity.getLayoutInflater().cloneInContext(activity);
+
+        // Inflated views need a parent to generate their layout params from; never attached to the window
+        RecyclerView parent = new RecyclerView(activity);
+        parent.setLayoutManager(new LinearLayoutManager(activity));
+
+        // One entry per row still to inflate
+        ArrayDeque<Integer> pending = new ArrayDeque<>(count * layouts.length);
+        for (int layout : layouts)
+        {
+            recycledViewPool.setMaxRecycledViews(layout, MAX_RECYCLED_PER_TYPE);
+            for (int i = 0; i < count; i++)
+            {
+                pending.add(layout);
+            }
+        }
+
+        // Inflate a single row per idle pass, so input and drawing are never held up by more than one row
+        Looper.myQueue().addIdleHandler(() ->
+        {
+            if (inflater == null || pending.isEmpty())
+            {
+                return false;   // Activity destroyed or all rows inflated, remove the handler
+            }
+
+            int layout = pending.poll();
+            ArrayDeque<View> views = preInflated.get(layout);
+            if (views == null)
+            {
+                views = new ArrayDeque<>(count);
+                preInflated.put(layout, views);
+            }
+            views.add(inflater.inflate(layout, parent, false));
+            return !pending.isEmpty();
+        });
+    }
+
+    /**
+     * Attaches the shared pool to <code>recyclerView</code>. Its rows are returned to the pool when the
+     * fragment's view is destroyed, rather than being dropped with it
+     *
+     * @param recyclerView a <code>RecyclerView</code> using a <code>LinearLayoutManager</code>
+     */
+    public void attach(@NonNull RecyclerView recyclerView)
+    {
+        recyclerView.setRecycledViewPool(recycledViewPool);
+        if (recyclerView.getLayoutManager() instanceof LinearLayoutManager)
+        {
+            ((LinearLayoutManager) recyclerView.getLayoutManager()).setRecycleChildrenOnDetach(true);
+        }
+    }
+
+    /**
+     * Inflates a row of <code>layout</code>, using a pre-inflated view if one is ready
+     *
+     * @param parent the <code>ViewGroup</code> passed to <code>onCreateViewHolder</code>
+     * @param layout the layout resource to inflate
+     * @return the row's <code>View</code>, not attached to <code>parent</code>
+     */
+    @NonNull
+    public View inflate(@NonNull ViewGroup parent, @LayoutRes int layout)
+    {
+        ArrayDeque<View> views = preInflated.get(layout);
+        if (views != null && !views.isEmpty())
+        {
+            return views.poll();
+        }
+        return LayoutInflater.from(parent.getContext()).inflate(layout, parent, false);
+    }
+
+    /**
+     * Stops any pending inflation and drops the pre-inflated views. Call when the owning activity is destroyed
+     */
+    public void clear()
+    {
+        inflater = null;
+        preInflated.clear();
+        recycledViewPool.clear();
+    }
+}
@@ -1,82 +1,96 @@
 package com.example.budgetbuddy.adapters;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.DiffUtil;
 
-import com.example.budgetbuddy.domain.entities.Transaction;
-import com.example.budgetbuddy.domain.entities.TransactionWithCategory;
+import com.example.budgetbuddy.ui.TransactionRowModel;
 
 import java.util.List;
-import java.util.Objects;
 
 
 /**
- * Extends <code>DiffUtils.Callback</code> to calculate changes between transaction lists
+ * Extends <code>DiffUtil.ItemCallback</code> to calculate changes between transaction lists.
+ * Shared by the list adapters, which run it on a background thread.
+ * Changed items carry a payload of <code>CHANGED_*</code> flags so only the affected views are rebound.
  */
-public class TransactionDiffCallback extends DiffUtil.Callback
+public class TransactionDiffCallback extends DiffUtil.ItemCallback<TransactionRowModel>
 {
-    private final List<TransactionWithCategory> oldTransactionList;
-    private final List<TransactionWithCategory> newTransactionList;
+    public static final int CHANGED_AMOUNT = 1;         // Amount or type (sign and colour)
+    public static final int CHANGED_DATE_TIME = 1 << 1;
+    public static final int CHANGED_CATEGORY = 1 << 2;  // Category name
 
     /**
-     * Takes an old and new list of <code>TransactionWithCategory</code> objects
-     *
-     * @param oldTransactionList the old list
-     * @param newTransactionList the new list
-     */
-    public TransactionDiffCallback(List<TransactionWithCategory> oldTransactionList, List<TransactionWithCategory> newTransactionList)
-    {
-        this.oldTransactionList = oldTransactionList;
-        this.newTransactionList = newTransactionList;
-    }
-
-    /**
-     * Get the size of the old list
+     * Compares two items in a list by their ID
      *
-     * @return <code>int</code> size value
+     * @param oldItem The item in the old list
+     * @param newItem The item in the new list
+     * @return true if the IDs are the same, false if not
      */
     @Override
-    public int getOldListSize()
+    public boolean areItemsTheSame(@NonNull TransactionRowModel oldItem, @NonNull TransactionRowModel newItem)
     {
-        return oldTransactionList.size();
+        return oldItem.getId() == newItem.getId();
     }
 
     /**
-     * Get the size of the new list
+     * Compares every field of the two rows, including the transaction and category they were built from
      *
-     * @return <code>int</code> size value
+     * @param oldItem The item in the old list
+     * @param newItem The item in the new list which replaces the oldItem
+     * @return true if the contents are the same, false otherwise
      */
     @Override
-    public int getNewListSize()
+    public boolean areContentsTheSame(@NonNull TransactionRowModel oldItem, @NonNull TransactionRowModel newItem)
     {
-        return newTransactionList.size();
+        return oldItem.equals(newItem);     // Data class equality
     }
 
     /**
-     * Compares two items in a list by their ID
+     * Reports which displayed fields changed between two versions of the same transaction.
+     * Called only when <code>areContentsTheSame</code> is false. A result of 0 means only fields
+     * that are not displayed changed (e.g. the repeat duration), so nothing needs rebinding.
      *
-     * @param oldItemPosition The position of the item in the old list
-     * @param newItemPosition The position of the item in the new list
-     * @return true if the IDs are the same, false if not
+     * @param oldItem The item in the old list
+     * @param newItem The item in the new list
+     * @return an <code>Integer</code> of <code>CHANGED_*</code> flags
      */
+    @Nullable
     @Override
-    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition)
+    public Object getChangePayload(@NonNull TransactionRowModel oldItem, @NonNull TransactionRowModel newItem)
     {
-        return Objects.equals(oldTransactionList.get(oldItemPosition).transaction.getId(), newTransactionList.get(newItemPosition).transaction.getId());
+        int changes = 0;
+        if (!oldItem.getAmountText().equals(newItem.getAmountText()) || oldItem.isIncoming() != newItem.isIncoming())
+        {
+            changes |= CHANGED_AMOUNT;
+        }
+        if (!oldItem.getDateTimeText().equals(newItem.getDateTimeText()))
+        {
+            changes |= CHANGED_DATE_TIME;
+        }
+        if (!oldItem.getCategoryName().equals(newItem.getCategoryName()))
+        {
+            changes |= CHANGED_CATEGORY;
+        }
+        return changes;
     }
 
     /**
-     * Compares two Transactions by their date and time
+     * Merges the payloads RecyclerView has collected for a position since it was last bound
      *
-     * @param oldItemPosition The position of the item in the old list
-     * @param newItemPosition The position of the item in the new list which replaces the
-     *                        oldItem
-     * @return true if the contents are the same, false otherwise
+     * @param payloads the payloads passed to <code>onBindViewHolder</code>
+     * @return the combined <code>CHANGED_*</code> flags
      */
-    @Override
-    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition)
+    public static int combinePayloads(@NonNull List<Object> payloads)
     {
-        Transaction oldTransaction = oldTransactionList.get(oldItemPosition).transaction;
-        Transaction newTransaction = newTransactionList.get(newItemPosition).transaction;
-        return Objects.equals(oldTransaction.getDateTime(), newTransaction.getDateTime());
+        int changes = 0;
+        for (Object payload : payloads)
+        {
+            if (payload instanceof Integer)
+            {
+                changes |= (Integer) payload;
+            }
+        }
+        return changes;
     }
 }
@@ -14,12 +14,19 @@ interface PreferenceRepository
 {
     val budget: Flow<Double>    // Observable budget value, auto-updated
     val isOnboardingCompleted: Flow<Boolean>
+    val budgetPeriodStartDay: Flow<Int>     // Day of the month each budget period begins, 1 to 31
 
     /**
      * Updates the Double budget value in preferences with a new value
      */
     suspend fun updateBudget(newBudget: Double)
 
+    /**
+     * Updates the day of the month budget periods begin on. Days past the end
+     * of a shorter month begin that month's period on its last day
+     */
+    suspend fun updateBudgetPeriodStartDay(day: Int)
+
     /**
      * Sets the value of the "first run" or onboarding flag to true or false
      * Setting this value to true will avoid the "startup" page on subsequent runs
@@ -0,0 +1,49 @@
+package com.example.budgetbuddy.data
+
+import com.example.budgetbuddy.domain.entities.RecurringRule
+import com.example.budgetbuddy.domain.entities.RuleOccurrences
+import com.example.budgetbuddy.domain.entities.Transaction
+import kotlinx.coroutines.flow.Flow
+
+/**
+ * Interface defining the contract implementations must follow for accessing
+ * the data layer and carrying out operations pertaining to recurring
+ * transaction rules.
+ */
+interface RecurringRuleRepository
+{
+    /**
+     * Returns a Flow list of every recurring rule
+     */
+    fun getAllRules() : Flow<List<RecurringRule>>
+
+    /**
+     * Returns the rules that may have occurrences at or before [now] that
+     * have not been inserted yet
+     */
+    suspend fun getDueRules(now: Long) : List<RecurringRule>
+
+    /**
+     * Inserts a new rule in a background thread
+     */
+    suspend fun insertRule(rule: RecurringRule)
+
+    /**
+     * Inserts a repeating [transaction] and the rule it starts in one
+     * database transaction
+     */
+    suspend fun insertRecurringTransaction(transaction: Transaction)
+
+    /**
+     * Deletes a rule in a background thread
+     */
+    suspend fun deleteRule(rule: RecurringRule)
+
+    /**
+     * Inserts the occurrences of each rule in [due] and moves its watermark in
+     * one database transaction. Rules whose watermark has moved since they were
+     * read, or that have been deleted, are skipped.
+     * Returns the number of transactions inserted
+     */
+    suspend fun materialize(due: List<RuleOccurrences>): Int
+}
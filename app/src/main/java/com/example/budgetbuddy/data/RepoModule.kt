@@ -4,6 +4,7 @@ package com.example.budgetbuddy.data
 
 import com.example.budgetbuddy.data.impl.CategoryRepositoryImpl
 import com.example.budgetbuddy.data.impl.PreferenceRepositoryImpl
+import com.example.budgetbuddy.data.impl.RecurringRuleRepositoryImpl
 import com.example.budgetbuddy.data.impl.TransactionRepositoryImpl
 import dagger.Binds
 import dagger.Module
@@ -58,4 +59,13 @@ abstract class RepoModule
         impl: PreferenceRepositoryImpl
     ): PreferenceRepository
 
+    /**
+     * Binds the RecurringRuleRepository to the provided implementation
+     */
+    @Binds
+    @Singleton
+    abstract fun bindRecurringRuleRepo(
+        impl: RecurringRuleRepositoryImpl
+    ): RecurringRuleRepository
+
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.example.budgetbuddy.data
 
+import androidx.paging.PagingData
+import com.example.budgetbuddy.domain.entities.CategoryTotal
+import com.example.budgetbuddy.domain.entities.MonthlySummary
 import com.example.budgetbuddy.domain.entities.Transaction
+import com.example.budgetbuddy.domain.entities.TransactionFilter
 import com.example.budgetbuddy.domain.entities.TransactionWithCategory
 import kotlinx.coroutines.flow.Flow
 
@@ -23,6 +27,63 @@ interface TransactionRepository
      */
     fun getAllWithCategory() : Flow<List<TransactionWithCategory>>
 
+    /**
+     * Returns a Flow list of the most recent [limit] transactions with their
+     * corresponding category, newest first
+     */
+    fun getRecentWithCategory(limit: Int) : Flow<List<TransactionWithCategory>>
+
+    /**
+     * Returns a Flow list of the transactions from [from] (inclusive) to [to]
+     * (exclusive), oldest first
+     */
+    fun getBetween(from: Long, to: Long) : Flow<List<Transaction>>
+
+    /**
+     * Returns a Flow of the net total (incoming minus outgoing) of the
+     * transactions from [from] (inclusive) to [to] (exclusive), in minor units
+     */
+    fun getNetBetween(from: Long, to: Long) : Flow<Long>
+
+    /**
+     * Returns a Flow of paged transactions with their corresponding category,
+     * newest first. Only the visible window (plus prefetch) is loaded at once
+     */
+    fun getPagedWithCategory() : Flow<PagingData<TransactionWithCategory>>
+
+    /**
+     * Returns a Flow of paged transactions matching [filter] with their
+     * corresponding category, newest first. The filter is evaluated by the
+     * database, so only matching rows are loaded
+     */
+    fun getPagedWithCategory(filter: TransactionFilter) : Flow<PagingData<TransactionWithCategory>>
+
+    /**
+     * Returns a Flow of paged transactions whose note matches the words in
+     * [query], best match first. Each word matches as a prefix
+     */
+    fun searchWithCategory(query: String) : Flow<PagingData<TransactionWithCategory>>
+
+    /**
+     * Returns a Flow list of outgoing totals per category, largest first.
+     * Aggregated by the database, so the list size depends on the number
+     * of categories rather than the number of transactions
+     */
+    fun getCategoryTotals() : Flow<List<CategoryTotal>>
+
+    /**
+     * Returns a Flow list of the per-category monthly totals from [fromMonth]
+     * to [toMonth] inclusive (see MonthlySummary.monthIndexOf), oldest first.
+     * Kept up to date by the database, so reports read pre-aggregated rows
+     */
+    fun getMonthlySummaries(fromMonth: Int, toMonth: Int) : Flow<List<MonthlySummary>>
+
+    /**
+     * Returns a Flow of the net total (incoming minus outgoing) of every
+     * transaction, in minor units
+     */
+    fun getNetTotal() : Flow<Long>
+
     /**
      * Inserts a new transaction in a background thread
      */
@@ -34,7 +95,8 @@ interface TransactionRepository
     suspend fun deleteTransaction(transaction: Transaction)
 
     /**
-     * Deletes all transactions from the database
+     * Deletes all recurring rules, transactions and categories from the
+     * database in one database transaction
      */
-    suspend fun deleteAll()
+    suspend fun deleteAllData()
 }
\ No newline at end of file
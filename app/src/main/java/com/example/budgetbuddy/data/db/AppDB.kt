@@ -2,20 +2,25 @@ package com.example.budgetbuddy.data.db
 
 import androidx.room.Database
 import androidx.room.RoomDatabase
-import androidx.room.TypeConverters
 import com.example.budgetbuddy.domain.entities.Category
+import com.example.budgetbuddy.domain.entities.MonthlySummary
+import com.example.budgetbuddy.domain.entities.RecurringRule
 import com.example.budgetbuddy.domain.entities.Transaction
+import com.example.budgetbuddy.domain.entities.TransactionFts
 
 
 @Database(
     entities = [Transaction::class,
-        Category::class],
-    version = 1,
+        Category::class,
+        TransactionFts::class,
+        RecurringRule::class,
+        MonthlySummary::class],
+    version = 6,
     exportSchema = true
 )
-@TypeConverters(Converters::class)
 abstract class AppDB : RoomDatabase()
 {
     abstract fun transactionDao(): TransactionDao
     abstract fun categoryDao(): CategoryDao
+    abstract fun recurringRuleDao(): RecurringRuleDao
 }
\ No newline at end of file
@@ -51,7 +51,10 @@ object DBModule
             context,
             AppDB::class.java,
             "budgetbuddy_DB"
-        ).build()
+        )
+            .addMigrations(*Migrations.ALL)   // Upgrade existing installs without losing data
+            .addCallback(MonthlySummaryTriggers.CALLBACK)   // Triggers for a newly created database
+            .build()
     }
 
     /**
@@ -76,6 +79,17 @@ object DBModule
         return db.categoryDao()
     }
 
+    /**
+     * Returns or creates a singleton instance of the recurring rule DAO.
+     * Consumes the AppDB instance provided by provideDatabase
+     */
+    @Singleton
+    @Provides
+    fun provideRecurringRuleDao(db: AppDB): RecurringRuleDao
+    {
+        return db.recurringRuleDao()
+    }
+
     /**
      * Returns or creates a singleton instance of the Preferences DataStore
      */
@@ -0,0 +1,229 @@
+package com.example.budgetbuddy.data.db
+
+import androidx.room.migration.Migration
+import androidx.sqlite.db.SupportSQLiteDatabase
+
+/**
+ * Holds the schema migrations for [AppDB]. Each migration moves the database
+ * up by one version; Room chains them together when an install is several
+ * versions behind.
+ *
+ * Column definitions must match what Room generates for the entities exactly,
+ * otherwise Room's post-migration validation fails.
+ */
+object Migrations
+{
+    /**
+     * Version 1 -> 2. Adds the foreign key from transaction.categoryID to
+     * category.id and indices on datetime and categoryID.
+     *
+     * SQLite cannot add a foreign key to an existing table, so the table is
+     * rebuilt and the rows copied across. Transactions pointing at a category
+     * that no longer exists would violate the new key (and could never be
+     * displayed), so they are not copied.
+     */
+    @JvmField
+    val MIGRATION_1_2 = object : Migration(1, 2)
+    {
+        override fun migrate(db: SupportSQLiteDatabase)
+        {
+            db.execSQL(
+                """
+                CREATE TABLE IF NOT EXISTS `transaction_new` (
+                    `id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL,
+                    `amount` REAL NOT NULL,
+                    `type` TEXT NOT NULL,
+                    `datetime` INTEGER NOT NULL,
+                    `categoryID` INTEGER NOT NULL,
+                    `repeat` TEXT NOT NULL,
+                    FOREIGN KEY(`categoryID`) REFERENCES `category`(`id`)
+                        ON UPDATE NO ACTION ON DELETE RESTRICT
+                )
+                """.trimIndent()
+            )
+
+            // Copy every transaction with a valid category, keeping the ids
+            db.execSQL(
+                """
+                INSERT INTO `transaction_new` (`id`, `amount`, `type`, `datetime`, `categoryID`, `repeat`)
+                SELECT `id`, `amount`, `type`, `datetime`, `categoryID`, `repeat`
+                FROM `transaction`
+                WHERE `categoryID` IN (SELECT `id` FROM `category`)
+                """.trimIndent()
+            )
+
+            db.execSQL("DROP TABLE `transaction`")
+            db.execSQL("ALTER TABLE `transaction_new` RENAME TO `transaction`")
+
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_transaction_datetime` ON `transaction` (`datetime`)")
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_transaction_categoryID` ON `transaction` (`categoryID`)")
+        }
+    }
+
+    /**
+     * Version 2 -> 3. Stores transaction amounts as INTEGER minor units (pence)
+     * instead of REAL pounds, so sums are exact.
+     *
+     * SQLite cannot change a column's type, so the table is rebuilt. Each amount
+     * is rounded to the nearest penny while copying, which removes any binary
+     * floating-point error the old REAL values carried (e.g. 19.99 -> 1999).
+     */
+    @JvmField
+    val MIGRATION_2_3 = object : Migration(2, 3)
+    {
+        override fun migrate(db: SupportSQLiteDatabase)
+        {
+            db.execSQL(
+                """
+                CREATE TABLE IF NOT EXISTS `transaction_new` (
+                    `id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL,
+                    `amount` INTEGER NOT NULL,
+                    `type` TEXT NOT NULL,
+                    `datetime` INTEGER NOT NULL,
+                    `categoryID` INTEGER NOT NULL,
+                    `repeat` TEXT NOT NULL,
+                    FOREIGN KEY(`categoryID`) REFERENCES `category`(`id`)
+                        ON UPDATE NO ACTION ON DELETE RESTRICT
+                )
+                """.trimIndent()
+            )
+
+            db.execSQL(
+                """
+                INSERT INTO `transaction_new` (`id`, `amount`, `type`, `datetime`, `categoryID`, `repeat`)
+                SELECT `id`, CAST(ROUND(`amount` * 100) AS INTEGER), `type`, `datetime`, `categoryID`, `repeat`
+                FROM `transaction`
+                """.trimIndent()
+            )
+
+            db.execSQL("DROP TABLE `transaction`")
+            db.execSQL("ALTER TABLE `transaction_new` RENAME TO `transaction`")
+
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_transaction_datetime` ON `transaction` (`datetime`)")
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_transaction_categoryID` ON `transaction` (`categoryID`)")
+        }
+    }
+
+    /**
+     * Version 3 -> 4. Adds the optional note column and the transaction_fts
+     * full-text index over it.
+     *
+     * Only the FTS table is created here. Room drops and recreates the
+     * triggers that keep it in sync with the transaction table after every
+     * migration, so they are left to Room. Existing rows have no note, but the
+     * index is rebuilt anyway so it always matches the content table.
+     */
+    @JvmField
+    val MIGRATION_3_4 = object : Migration(3, 4)
+    {
+        override fun migrate(db: SupportSQLiteDatabase)
+        {
+            db.execSQL("ALTER TABLE `transaction` ADD COLUMN `note` TEXT")
+
+            db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `transaction_fts` USING FTS4(`note` TEXT, content=`transaction`)")
+
+            db.execSQL("INSERT INTO `transaction_fts`(`transaction_fts`) VALUES ('rebuild')")
+        }
+    }
+
+    /**
+     * Version 4 -> 5. Adds the recurring_rule table.
+     *
+     * Transactions already saved with a repeat duration become rules, each
+     * with its watermark at the transaction itself, so the first run of the
+     * RecurringTransactionWorker inserts the occurrences they have missed.
+     * Each rule is linked to the transaction it came from, and is deleted
+     * with it.
+     */
+    @JvmField
+    val MIGRATION_4_5 = object : Migration(4, 5)
+    {
+        override fun migrate(db: SupportSQLiteDatabase)
+        {
+            db.execSQL(
+                """
+                CREATE TABLE IF NOT EXISTS `recurring_rule` (
+                    `id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL,
+                    `sourceTransactionID` INTEGER NOT NULL,
+                    `amount` INTEGER NOT NULL,
+                    `type` TEXT NOT NULL,
+                    `categoryID` INTEGER NOT NULL,
+                    `repeat` TEXT NOT NULL,
+                    `startDateTime` INTEGER NOT NULL,
+                    `lastMaterialized` INTEGER NOT NULL,
+                    `note` TEXT,
+                    FOREIGN KEY(`categoryID`) REFERENCES `category`(`id`)
+                        ON UPDATE NO ACTION ON DELETE RESTRICT,
+                    FOREIGN KEY(`sourceTransactionID`) REFERENCES `transaction`(`id`)
+                        ON UPDATE NO ACTION ON DELETE CASCADE
+                )
+                """.trimIndent()
+            )
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_recurring_rule_categoryID` ON `recurring_rule` (`categoryID`)")
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_recurring_rule_sourceTransactionID` ON `recurring_rule` (`sourceTransactionID`)")
+
+            db.execSQL(
+                """
+                INSERT INTO `recurring_rule` (`sourceTransactionID`, `amount`, `type`, `categoryID`, `repeat`,
+                    `startDateTime`, `lastMaterialized`, `note`)
+                SELECT `id`, `amount`, `type`, `categoryID`, `repeat`, `datetime`, `datetime`, `note`
+                FROM `transaction`
+                WHERE `repeat` != 'NEVER'
+                """.trimIndent()
+            )
+        }
+    }
+
+    /**
+     * Version 5 -> 6. Adds the monthly_summary table, with the triggers that
+     * keep it up to date, and the month_index column those triggers read.
+     *
+     * Existing transactions get their month in the current time zone, and
+     * the table is filled from them in one GROUP BY.
+     */
+    @JvmField
+    val MIGRATION_5_6 = object : Migration(5, 6)
+    {
+        override fun migrate(db: SupportSQLiteDatabase)
+        {
+            db.execSQL(
+                """
+                CREATE TABLE IF NOT EXISTS `monthly_summary` (
+                    `month_index` INTEGER NOT NULL,
+                    `category_id` INTEGER NOT NULL,
+                    `spend` INTEGER NOT NULL,
+                    `income` INTEGER NOT NULL,
+                    `count` INTEGER NOT NULL,
+                    PRIMARY KEY(`month_index`, `category_id`)
+                )
+                """.trimIndent()
+            )
+
+            db.execSQL("ALTER TABLE `transaction` ADD COLUMN `month_index` INTEGER NOT NULL DEFAULT 0")
+            db.execSQL("UPDATE `transaction` SET `month_index` = ${MonthlySummaryTriggers.monthIndexSql("`datetime`")}")
+
+            MonthlySummaryTriggers.create(db)
+
+            db.execSQL(
+                """
+                INSERT INTO `monthly_summary` (`month_index`, `category_id`, `spend`, `income`, `count`)
+                SELECT `month_index`, `categoryID`,
+                    SUM(CASE WHEN `type` = 'OUTGOING' THEN `amount` ELSE 0 END),
+                    SUM(CASE WHEN `type` = 'INCOMING' THEN `amount` ELSE 0 END),
+                    COUNT(*)
+                FROM `transaction`
+                GROUP BY `month_index`, `categoryID`
+                """.trimIndent()
+            )
+        }
+    }
+
+    /**
+     * Every migration, in version order. Passed to the Room database builder
+     */
+    @JvmField
+    val ALL = arrayOf(
+        MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4, MIGRATION_4_5,
+        MIGRATION_5_6
+    )
+}
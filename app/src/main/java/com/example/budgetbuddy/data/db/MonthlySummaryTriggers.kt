@@ -0,0 +1,105 @@
+package com.example.budgetbuddy.data.db
+
+import androidx.room.RoomDatabase
+import androidx.sqlite.db.SupportSQLiteDatabase
+
+/**
+ * The triggers that keep the monthly_summary table in step with the
+ * transaction table.
+ *
+ * Each change to a transaction adjusts the one summary row for its month and
+ * category: an insert adds to it (creating it if needed), a delete subtracts
+ * from it and removes it once empty, and an update does both. The work per
+ * change is constant, whatever the size of the history.
+ *
+ * The month is read from the transaction's month_index column, fixed when the
+ * transaction was saved, never recalculated from its datetime. A delete or
+ * update therefore always finds the summary row its insert added to, even if
+ * the device's time zone has changed in between.
+ *
+ * Room does not create triggers for an entity, so they are created by
+ * [CALLBACK] for a new database and by [Migrations.MIGRATION_5_6] for an
+ * existing one.
+ */
+object MonthlySummaryTriggers
+{
+    /**
+     * SQL for the month index (year * 12 + month - 1) of an epoch millisecond
+     * datetime column, in the device's current time zone. Matches
+     * MonthlySummary.monthIndexOf. Only used by migrations, to fill in
+     * month_index for transactions saved before it was stored
+     */
+    @JvmStatic
+    fun monthIndexSql(column: String) =
+        "(CAST(strftime('%Y', $column / 1000, 'unixepoch', 'localtime') AS INTEGER) * 12 " +
+            "+ CAST(strftime('%m', $column / 1000, 'unixepoch', 'localtime') AS INTEGER) - 1)"
+
+    // Adds the NEW row to its summary, creating the summary row if it does not exist
+    private val ADD_NEW =
+        """
+        INSERT INTO monthly_summary (month_index, category_id, spend, income, count)
+        VALUES (
+            NEW.month_index,
+            NEW.categoryID,
+            CASE WHEN NEW.type = 'OUTGOING' THEN NEW.amount ELSE 0 END,
+            CASE WHEN NEW.type = 'INCOMING' THEN NEW.amount ELSE 0 END,
+            1
+        )
+        ON CONFLICT (month_index, category_id) DO UPDATE SET
+            spend = spend + excluded.spend,
+            income = income + excluded.income,
+            count = count + 1;
+        """
+
+    // Subtracts the OLD row from its summary, removing the summary row once it is empty
+    private val REMOVE_OLD =
+        """
+        UPDATE monthly_summary SET
+            spend = spend - CASE WHEN OLD.type = 'OUTGOING' THEN OLD.amount ELSE 0 END,
+            income = income - CASE WHEN OLD.type = 'INCOMING' THEN OLD.amount ELSE 0 END,
+            count = count - 1
+        WHERE month_index = OLD.month_index AND category_id = OLD.categoryID;
+        DELETE FROM monthly_summary
+        WHERE month_index = OLD.month_index AND category_id = OLD.categoryID AND count <= 0;
+        """
+
+    /**
+     * Every CREATE TRIGGER statement, in order
+     */
+    @JvmField
+    val CREATE_STATEMENTS = listOf(
+        "CREATE TRIGGER IF NOT EXISTS monthly_summary_after_insert AFTER INSERT ON `transaction` " +
+            "BEGIN $ADD_NEW END",
+
+        "CREATE TRIGGER IF NOT EXISTS monthly_summary_after_delete AFTER DELETE ON `transaction` " +
+            "BEGIN $REMOVE_OLD END",
+
+        // Only when a column the summary depends on has changed
+        "CREATE TRIGGER IF NOT EXISTS monthly_summary_after_update AFTER UPDATE ON `transaction` " +
+            "WHEN OLD.amount != NEW.amount OR OLD.type != NEW.type " +
+            "OR OLD.month_index != NEW.month_index OR OLD.categoryID != NEW.categoryID " +
+            "BEGIN $REMOVE_OLD $ADD_NEW END"
+    )
+
+    /**
+     * Creates the triggers on [db]
+     */
+    @JvmStatic
+    fun create(db: SupportSQLiteDatabase)
+    {
+        CREATE_STATEMENTS.forEach { db.execSQL(it) }
+    }
+
+    /**
+     * Creates the triggers when Room creates a new database. Passed to the
+     * Room database builder
+     */
+    @JvmField
+    val CALLBACK = object : RoomDatabase.Callback()
+    {
+        override fun onCreate(db: SupportSQLiteDatabase)
+        {
+            create(db)
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.budgetbuddy.data.db
+
+import androidx.room.Dao
+import androidx.room.Delete
+import androidx.room.Insert
+import androidx.room.Query
+import com.example.budgetbuddy.domain.entities.RecurringRule
+import com.example.budgetbuddy.domain.entities.RuleOccurrences
+import com.example.budgetbuddy.domain.entities.Transaction
+import kotlinx.coroutines.flow.Flow
+
+@Dao
+interface RecurringRuleDao
+{
+    /**
+     * Returns a Flow list of every recurring rule, in the order they were created
+     */
+    @Query("SELECT * FROM recurring_rule ORDER BY id")
+    fun getAll(): Flow<List<RecurringRule>>
+
+    /**
+     * Returns the rules whose watermark is before [now], i.e. the only rules
+     * that can have occurrences still to be inserted
+     */
+    @Query("SELECT * FROM recurring_rule WHERE lastMaterialized < :now")
+    suspend fun getDue(now: Long): List<RecurringRule>
+
+    /**
+     * Inserts a rule and returns its generated id
+     */
+    @Insert
+    suspend fun insert(rule: RecurringRule): Long
+
+    /**
+     * Inserts a transaction and returns its generated id
+     */
+    @Insert
+    suspend fun insertTransaction(transaction: Transaction): Long
+
+    /**
+     * Inserts a repeating [transaction] and the rule it starts in a single
+     * database transaction, so a repeating transaction is never saved
+     * without its rule (or a rule without its first occurrence).
+     * Returns the id of the transaction.
+     */
+    @androidx.room.Transaction
+    suspend fun insertWithRule(transaction: Transaction): Long
+    {
+        val id = insertTransaction(transaction)
+        insert(RecurringRule.from(transaction.copy(id = id)))
+        return id
+    }
+
+    /**
+     * Deletes a rule. Occurrences already inserted are kept. Rules are also
+     * deleted with the transaction they were created from
+     */
+    @Delete
+    suspend fun delete(rule: RecurringRule)
+
+    /**
+     * Inserts every occurrence in one statement batch
+     */
+    @Insert
+    suspend fun insertOccurrences(occurrences: List<Transaction>)
+
+    /**
+     * Moves a rule's watermark from [previous] to [watermark], but only if it is
+     * still at [previous]. Returns the number of rows updated: 0 if the rule has
+     * been deleted or another run has already moved its watermark
+     */
+    @Query("UPDATE recurring_rule SET lastMaterialized = :watermark WHERE id = :id AND lastMaterialized = :previous")
+    suspend fun advanceWatermark(id: Long, previous: Long, watermark: Long): Int
+
+    /**
+     * Advances the watermark of every rule in [due] and inserts its occurrences
+     * in a single database transaction. A rule's occurrences are only inserted
+     * if its watermark was still where it was read, so two runs racing over the
+     * same rules can't both insert them, and a rule deleted since it was read
+     * inserts nothing. Either all of it is written or none of it, so a rule can
+     * never be left with occurrences past its watermark.
+     *
+     * Returns the number of transactions inserted
+     */
+    @androidx.room.Transaction
+    suspend fun materialize(due: List<RuleOccurrences>): Int
+    {
+        val occurrences = ArrayList<Transaction>()
+        for (batch in due)
+        {
+            if (advanceWatermark(batch.rule.id, batch.rule.lastMaterialized, batch.watermark) == 1)
+            {
+                occurrences.addAll(batch.occurrences)
+            }
+        }
+
+        if (occurrences.isNotEmpty())
+        {
+            insertOccurrences(occurrences)
+        }
+        return occurrences.size
+    }
+}
@@ -1,29 +1,152 @@
 package com.example.budgetbuddy.data.db
 
+import androidx.paging.PagingSource
+import androidx.room.Dao
 import androidx.room.Delete
 import androidx.room.Insert
 import androidx.room.Query
+import androidx.room.RawQuery
+import androidx.sqlite.db.SupportSQLiteQuery
+import com.example.budgetbuddy.domain.entities.Category
+import com.example.budgetbuddy.domain.entities.CategoryTotal
+import com.example.budgetbuddy.domain.entities.MonthlySummary
 import com.example.budgetbuddy.domain.entities.Transaction
 import com.example.budgetbuddy.domain.entities.TransactionWithCategory
 import kotlinx.coroutines.flow.Flow
 
+@Dao
 interface TransactionDao
 {
     /**
-     * Returns flow list of all Transactions, ordered by dateTime by default.
+     * Returns flow list of all Transactions, newest first. The ordering is
+     * served by the datetime index, id breaks ties between equal datetimes.
      */
-    @Query("SELECT * FROM 'transaction' ORDER BY 'datetime'")
+    @Query("SELECT * FROM `transaction` ORDER BY datetime DESC, id DESC")
     fun getAll(): Flow<List<Transaction>>
 
     /**
      * Performs SQL Join on Category/Transaction, returns flow list of
-     * TransactionWithCategory objects.
-     *
+     * TransactionWithCategory objects, newest first.
      */
     @androidx.room.Transaction
-    @Query("SELECT * FROM `transaction` ORDER BY 'datetime'")
+    @Query("SELECT * FROM `transaction` ORDER BY datetime DESC, id DESC")
     fun getAllWithCategories(): Flow<List<TransactionWithCategory>>
 
+    /**
+     * Returns flow list of the most recent [limit] TransactionWithCategory objects,
+     * newest first. The LIMIT is applied while walking the datetime index, so only
+     * [limit] rows are read however large the table grows.
+     */
+    @androidx.room.Transaction
+    @Query("SELECT * FROM `transaction` ORDER BY datetime DESC, id DESC LIMIT :limit")
+    fun getRecentWithCategories(limit: Int): Flow<List<TransactionWithCategory>>
+
+    /**
+     * Returns flow list of the Transactions from [from] (inclusive) to [to]
+     * (exclusive), oldest first. The range and the order are both served by
+     * the datetime index, so only the rows in the window are read.
+     */
+    @Query("SELECT * FROM `transaction` WHERE datetime >= :from AND datetime < :to ORDER BY datetime ASC, id ASC")
+    fun getBetween(from: Long, to: Long): Flow<List<Transaction>>
+
+    /**
+     * Returns the net total (incoming minus outgoing) of the transactions from
+     * [from] (inclusive) to [to] (exclusive), in minor units. Summed in SQL over
+     * a range of the datetime index, so only the rows in the range are read
+     */
+    @Query(
+        """
+        SELECT COALESCE(SUM(CASE WHEN type = 'INCOMING' THEN amount ELSE -amount END), 0)
+        FROM `transaction`
+        WHERE datetime >= :from AND datetime < :to
+        """
+    )
+    fun getNetBetween(from: Long, to: Long): Flow<Long>
+
+    /**
+     * Returns a PagingSource of TransactionWithCategory objects, newest first.
+     * Room generates the source and invalidates it whenever the transaction
+     * table changes, so only the pages currently being displayed are re-read.
+     *
+     * The id is used as a tie-breaker so that transactions sharing a datetime
+     * keep a stable position between pages.
+     */
+    @androidx.room.Transaction
+    @Query("SELECT * FROM `transaction` ORDER BY datetime DESC, id DESC")
+    fun getPagedWithCategories(): PagingSource<Int, TransactionWithCategory>
+
+    /**
+     * Returns a PagingSource of the TransactionWithCategory objects matching a
+     * query built by TransactionFilterQuery, newest first. Room cannot check a
+     * raw query at compile time, so the tables it reads are declared in
+     * observedEntities for the source to be invalidated when they change.
+     */
+    @androidx.room.Transaction
+    @RawQuery(observedEntities = [Transaction::class, Category::class])
+    fun getPagedFilteredWithCategories(query: SupportSQLiteQuery): PagingSource<Int, TransactionWithCategory>
+
+    /**
+     * Full-text search over transaction notes through the transaction_fts index,
+     * returned as a PagingSource of TransactionWithCategory objects.
+     * [query] must be an FTS4 MATCH expression, see TransactionSearchQuery.
+     *
+     * FTS4 has no built-in rank, so rows are ranked by how many times the terms
+     * matched: offsets() returns four numbers per match, separated by spaces.
+     * Ties fall back to newest first. MATCH is resolved by the full-text index,
+     * so only matching rows are read and sorted, however large the table grows.
+     */
+    @androidx.room.Transaction
+    @Query(
+        """
+        SELECT `transaction`.*
+        FROM `transaction`
+        INNER JOIN (
+            SELECT docid, (LENGTH(offsets(transaction_fts)) - LENGTH(REPLACE(offsets(transaction_fts), ' ', '')) + 1) / 4 AS hits
+            FROM transaction_fts
+            WHERE transaction_fts MATCH :query
+        ) AS matches ON `transaction`.id = matches.docid
+        ORDER BY matches.hits DESC, `transaction`.datetime DESC, `transaction`.id DESC
+        """
+    )
+    fun search(query: String): PagingSource<Int, TransactionWithCategory>
+
+    /**
+     * Returns one CategoryTotal per category with outgoing transactions,
+     * largest total first. Summed from the monthly_summary rows, so the query
+     * reads one row per category per month rather than every transaction.
+     */
+    @Query(
+        """
+        SELECT category.*, SUM(monthly_summary.spend) AS total
+        FROM monthly_summary
+        INNER JOIN category ON monthly_summary.category_id = category.id
+        GROUP BY monthly_summary.category_id
+        HAVING total > 0
+        ORDER BY total DESC
+        """
+    )
+    fun getCategoryTotals(): Flow<List<CategoryTotal>>
+
+    /**
+     * Returns the monthly_summary rows from [fromMonth] to [toMonth] (both
+     * inclusive month indices), oldest first. Served by the primary key
+     */
+    @Query(
+        """
+        SELECT * FROM monthly_summary
+        WHERE month_index BETWEEN :fromMonth AND :toMonth
+        ORDER BY month_index, category_id
+        """
+    )
+    fun getMonthlySummaries(fromMonth: Int, toMonth: Int): Flow<List<MonthlySummary>>
+
+    /**
+     * Returns the net total (incoming minus outgoing) of every transaction,
+     * in minor units, from the monthly_summary rows
+     */
+    @Query("SELECT COALESCE(SUM(income - spend), 0) FROM monthly_summary")
+    fun getNetTotal(): Flow<Long>
+
     /**
      * Inserts any number of transactions to the database
      */
@@ -35,4 +158,36 @@ interface TransactionDao
      */
     @Delete
     suspend fun delete(transaction: Transaction)
+
+    /**
+     * Deletes every recurring rule from the database
+     */
+    @Query("DELETE FROM recurring_rule")
+    suspend fun deleteAllRecurringRules()
+
+    /**
+     * Deletes every transaction from the database
+     */
+    @Query("DELETE FROM `transaction`")
+    suspend fun deleteAllTransactions()
+
+    /**
+     * Deletes every category from the database
+     */
+    @Query("DELETE FROM category")
+    suspend fun deleteAllCategories()
+
+    /**
+     * Deletes every recurring rule, transaction and category in a single
+     * database transaction. The rules go first, so the worker cannot insert
+     * their occurrences again and their RESTRICT keys do not block deleting
+     * the categories; transactions go before the categories for the same reason
+     */
+    @androidx.room.Transaction
+    suspend fun deleteAllData()
+    {
+        deleteAllRecurringRules()
+        deleteAllTransactions()
+        deleteAllCategories()
+    }
 }
\ No newline at end of file
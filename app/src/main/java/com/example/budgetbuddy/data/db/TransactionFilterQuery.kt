@@ -0,0 +1,70 @@
+package com.example.budgetbuddy.data.db
+
+import androidx.sqlite.db.SimpleSQLiteQuery
+import com.example.budgetbuddy.domain.entities.TransactionFilter
+
+/**
+ * Compiles a [TransactionFilter] into a parameterised query for
+ * [TransactionDao.getPagedFilteredWithCategories].
+ *
+ * Only the criteria that are set become WHERE terms, and every value is bound
+ * as an argument rather than written into the SQL, so there is no injection
+ * risk and SQLite can cache the statement for each shape of filter.
+ * Criteria are written as plain comparisons on the bare columns, so SQLite
+ * can use the datetime index for a date range (which also serves the
+ * ORDER BY) and the categoryID index for a category set.
+ */
+object TransactionFilterQuery
+{
+    private const val SELECT = "SELECT * FROM `transaction`"
+    private const val ORDER_BY = " ORDER BY datetime DESC, id DESC"     // Same order as the unfiltered history
+
+    /**
+     * Builds the query for [filter], newest first
+     */
+    @JvmStatic
+    fun build(filter: TransactionFilter): SimpleSQLiteQuery
+    {
+        val where = ArrayList<String>(6)
+        val args = ArrayList<Any>(6 + filter.categoryIDs.size)
+
+        // Range terms first, the order SQLite is most likely to use an index for
+        filter.startDateTime?.let {
+            where.add("datetime >= ?")
+            args.add(it)
+        }
+        filter.endDateTime?.let {
+            where.add("datetime < ?")
+            args.add(it)
+        }
+
+        if (filter.categoryIDs.isNotEmpty())
+        {
+            // One placeholder per category: "categoryID IN (?, ?, ?)"
+            where.add(filter.categoryIDs.joinToString(", ", "categoryID IN (", ")") { "?" })
+            args.addAll(filter.categoryIDs)
+        }
+
+        filter.type?.let {
+            where.add("type = ?")
+            args.add(it.name)       // Room stores enums by name
+        }
+        filter.minAmount?.let {
+            where.add("amount >= ?")
+            args.add(it)
+        }
+        filter.maxAmount?.let {
+            where.add("amount <= ?")
+            args.add(it)
+        }
+
+        val sql = StringBuilder(SELECT)
+        if (where.isNotEmpty())
+        {
+            where.joinTo(sql, " AND ", " WHERE ")
+        }
+        sql.append(ORDER_BY)
+
+        return SimpleSQLiteQuery(sql.toString(), args.toTypedArray())
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.budgetbuddy.data.db
+
+/**
+ * Turns text typed by the user into an FTS4 MATCH expression for
+ * [TransactionDao.search].
+ *
+ * The input is split into words and each word becomes a prefix term, so
+ * "coff sho" matches a note of "Coffee shop". Punctuation is dropped, so
+ * characters FTS treats as syntax (quotes, '-', '*', parentheses) can never
+ * make the expression invalid. FTS4 joins the terms with an implicit AND.
+ */
+object TransactionSearchQuery
+{
+    // Anything that is not a letter or digit separates words, as in FTS4's tokenizer
+    private val SEPARATORS = Regex("[^\\p{L}\\p{N}]+")
+
+    /**
+     * Returns the MATCH expression for [raw], or null if it contains no words
+     */
+    @JvmStatic
+    fun toMatchExpression(raw: String): String?
+    {
+        val terms = raw.split(SEPARATORS).filter { it.isNotEmpty() }
+        if (terms.isEmpty())
+        {
+            return null
+        }
+        return terms.joinToString(" ") { "$it*" }
+    }
+}
@@ -23,6 +23,7 @@ class PreferenceRepositoryImpl @Inject constructor(
     {
         val BUDGET = doublePreferencesKey("budget") // location of "budget" key-value pair
         val ONBOARDING_COMPLETED = booleanPreferencesKey("onboarding_completed") // first run or no
+        val BUDGET_PERIOD_START_DAY = intPreferencesKey("budget_period_start_day")
     }
 
     /*
@@ -42,6 +43,10 @@ class PreferenceRepositoryImpl @Inject constructor(
             prefs[Keys.ONBOARDING_COMPLETED] ?: false
         } // if not found, return false
 
+    // Budget periods follow calendar months until the user picks another day
+    override val budgetPeriodStartDay: Flow<Int>
+        get() = dataStore.data.map { prefs -> prefs[Keys.BUDGET_PERIOD_START_DAY] ?: 1 }
+
     /**
      * Updates the Double budget value in preferences with a new value
      */
@@ -52,6 +57,17 @@ class PreferenceRepositoryImpl @Inject constructor(
         }
     }
 
+    /**
+     * Updates the day of the month budget periods begin on
+     */
+    override suspend fun updateBudgetPeriodStartDay(day: Int)
+    {
+        require(day in 1..31) { "Start day must be between 1 and 31, was $day" }
+        dataStore.edit { prefs ->
+            prefs[Keys.BUDGET_PERIOD_START_DAY] = day
+        }
+    }
+
     /**
      * Sets the value of the "first run" or onboarding flag to true or false
      * Setting this value to true will avoid the "startup" page on subsequent runs
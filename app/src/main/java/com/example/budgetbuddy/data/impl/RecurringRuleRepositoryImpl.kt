@@ -0,0 +1,56 @@
+package com.example.budgetbuddy.data.impl
+
+import com.example.budgetbuddy.data.RecurringRuleRepository
+import com.example.budgetbuddy.data.db.RecurringRuleDao
+import com.example.budgetbuddy.domain.entities.RecurringRule
+import com.example.budgetbuddy.domain.entities.RuleOccurrences
+import com.example.budgetbuddy.domain.entities.Transaction
+import javax.inject.Inject
+
+/**
+ * Implements the RecurringRule Repository interface. Dao is injected
+ * at runtime.
+ */
+class RecurringRuleRepositoryImpl @Inject constructor(
+    private val dao: RecurringRuleDao
+) : RecurringRuleRepository
+{
+    /**
+     * Returns a Flow list of every recurring rule
+     */
+    override fun getAllRules() = dao.getAll()
+
+    /**
+     * Returns the rules whose watermark is before [now]
+     */
+    override suspend fun getDueRules(now: Long) = dao.getDue(now)
+
+    /**
+     * Inserts a new rule in a background thread
+     */
+    override suspend fun insertRule(rule: RecurringRule)
+    {
+        dao.insert(rule)
+    }
+
+    /**
+     * Inserts the transaction and its rule in one database transaction
+     */
+    override suspend fun insertRecurringTransaction(transaction: Transaction)
+    {
+        dao.insertWithRule(transaction)
+    }
+
+    /**
+     * Deletes a rule in a background thread
+     */
+    override suspend fun deleteRule(rule: RecurringRule)
+    {
+        dao.delete(rule)
+    }
+
+    /**
+     * Inserts the occurrences and moves the watermarks in one database transaction
+     */
+    override suspend fun materialize(due: List<RuleOccurrences>) = dao.materialize(due)
+}
@@ -1,8 +1,17 @@
 package com.example.budgetbuddy.data.impl
 
+import androidx.paging.Pager
+import androidx.paging.PagingConfig
+import androidx.paging.PagingData
 import com.example.budgetbuddy.data.TransactionRepository
 import com.example.budgetbuddy.data.db.TransactionDao
+import com.example.budgetbuddy.data.db.TransactionFilterQuery
+import com.example.budgetbuddy.data.db.TransactionSearchQuery
 import com.example.budgetbuddy.domain.entities.Transaction
+import com.example.budgetbuddy.domain.entities.TransactionFilter
+import com.example.budgetbuddy.domain.entities.TransactionWithCategory
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flowOf
 import javax.inject.Inject
 
 /**
@@ -31,6 +40,81 @@ class TransactionRepositoryImpl @Inject constructor(
      */
     override fun getAllWithCategory() = dao.getAllWithCategories()
 
+    /**
+     * Returns a Flow list of the most recent [limit] transactions with their
+     * corresponding category, newest first
+     */
+    override fun getRecentWithCategory(limit: Int) = dao.getRecentWithCategories(limit)
+
+    /**
+     * Returns a Flow list of the transactions in a window, oldest first
+     */
+    override fun getBetween(from: Long, to: Long) = dao.getBetween(from, to)
+
+    /**
+     * Returns a Flow of the net total of the transactions in a window
+     */
+    override fun getNetBetween(from: Long, to: Long) = dao.getNetBetween(from, to)
+
+    /**
+     * Returns a Flow of paged transactions with their corresponding category.
+     * The Pager requests a new PagingSource from the DAO each time Room
+     * invalidates the previous one (i.e. when the table changes)
+     */
+    override fun getPagedWithCategory() = Pager(
+        config = pagingConfig(),
+        pagingSourceFactory = { dao.getPagedWithCategories() }
+    ).flow
+
+    /**
+     * Returns a Flow of paged transactions matching [filter]. The filter is
+     * compiled once; each new PagingSource re-runs the same query. An empty
+     * filter uses the unfiltered query Room checked at compile time
+     */
+    override fun getPagedWithCategory(filter: TransactionFilter): Flow<PagingData<TransactionWithCategory>>
+    {
+        if (filter.isEmpty)
+        {
+            return getPagedWithCategory()
+        }
+
+        val query = TransactionFilterQuery.build(filter)
+        return Pager(
+            config = pagingConfig(),
+            pagingSourceFactory = { dao.getPagedFilteredWithCategories(query) }
+        ).flow
+    }
+
+    /**
+     * Returns a Flow of paged search results. Text with no searchable words
+     * matches nothing, without querying the database
+     */
+    override fun searchWithCategory(query: String): Flow<PagingData<TransactionWithCategory>>
+    {
+        val matchExpression = TransactionSearchQuery.toMatchExpression(query)
+            ?: return flowOf(PagingData.empty())
+
+        return Pager(
+            config = pagingConfig(),
+            pagingSourceFactory = { dao.search(matchExpression) }
+        ).flow
+    }
+
+    /**
+     * Returns a Flow list of outgoing totals per category, largest first
+     */
+    override fun getCategoryTotals() = dao.getCategoryTotals()
+
+    /**
+     * Returns a Flow list of the per-category monthly totals in a range of months
+     */
+    override fun getMonthlySummaries(fromMonth: Int, toMonth: Int) = dao.getMonthlySummaries(fromMonth, toMonth)
+
+    /**
+     * Returns a Flow of the net total of every transaction
+     */
+    override fun getNetTotal() = dao.getNetTotal()
+
     /**
      * Inserts a new transaction in a background thread
      */
@@ -52,4 +136,24 @@ class TransactionRepositoryImpl @Inject constructor(
     {
         dao.delete(transaction)
     }
+
+    /**
+     * Deletes all recurring rules, transactions and categories in one database transaction
+     */
+    override suspend fun deleteAllData()
+    {
+        dao.deleteAllData()
+    }
+
+    companion object
+    {
+        // Number of rows loaded per page. Comfortably fills a screen of transaction rows
+        private const val PAGE_SIZE = 30
+
+        private fun pagingConfig() = PagingConfig(
+            pageSize = PAGE_SIZE,
+            prefetchDistance = PAGE_SIZE / 2,   // Load the next page before the user reaches the end
+            enablePlaceholders = false          // Avoids null items in the adapter
+        )
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.budgetbuddy.domain.entities
+
+import java.time.Instant
+import java.time.LocalDate
+import java.time.YearMonth
+import java.time.ZoneId
+
+/**
+ * A budget period from [start] (inclusive) to [end] (exclusive), both in
+ * epoch milliseconds. Periods are a month long and begin on a configurable
+ * day of the month; a start day past the end of a shorter month begins that
+ * month's period on its last day instead.
+ */
+data class BudgetPeriod(
+    val start: Long,
+    val end: Long
+)
+{
+    /**
+     * True if [epochMillis] falls inside this period
+     */
+    operator fun contains(epochMillis: Long) = epochMillis in start until end
+
+    companion object
+    {
+        /**
+         * Returns the period containing [epochMillis] for periods beginning on
+         * [startDay] (1 to 31) of each month, at midnight in [zone]
+         */
+        @JvmStatic
+        fun containing(epochMillis: Long, startDay: Int, zone: ZoneId): BudgetPeriod
+        {
+            require(startDay in 1..31) { "Start day must be between 1 and 31, was $startDay" }
+
+            val date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate()
+
+            // Before this month's start day, the period began last month
+            var month = YearMonth.from(date)
+            if (date < startDate(month, startDay))
+            {
+                month = month.minusMonths(1)
+            }
+
+            return BudgetPeriod(
+                startDate(month, startDay).atStartOfDay(zone).toInstant().toEpochMilli(),
+                startDate(month.plusMonths(1), startDay).atStartOfDay(zone).toInstant().toEpochMilli()
+            )
+        }
+
+        /**
+         * The date a period begins in [month], clamped to the month's length
+         */
+        private fun startDate(month: YearMonth, startDay: Int): LocalDate =
+            month.atDay(minOf(startDay, month.lengthOfMonth()))
+    }
+}
+
+/**
+ * The budget for a period and how much of it is left, in minor units
+ */
+data class PeriodBudget(
+    val period: BudgetPeriod,
+    val totalBudget: Long,
+    val budgetRemaining: Long           // Can be negative
+)
@@ -0,0 +1,17 @@
+package com.example.budgetbuddy.domain.entities
+
+import androidx.room.ColumnInfo
+import androidx.room.Embedded
+
+/**
+ * Data Transfer Object comprised of a Category and the sum of all outgoing
+ * transactions assigned to it. Generated by a GROUP BY query on the Room database,
+ * so one row exists per category rather than per transaction.
+ */
+data class CategoryTotal(
+    @Embedded
+    val category: Category,
+
+    @ColumnInfo(name = "total")
+    val total: Long                     // SUM(amount) of the category's outgoings, in minor units
+)
@@ -0,0 +1,60 @@
+package com.example.budgetbuddy.domain.entities
+
+import androidx.room.ColumnInfo
+import androidx.room.Entity
+import java.time.Instant
+import java.time.YearMonth
+import java.time.ZoneId
+
+/**
+ * Data class for the monthly_summary table: the spending, income and number of
+ * transactions of one category in one calendar month.
+ *
+ * The table is never written by the app. SQLite triggers on the transaction
+ * table (see MonthlySummaryTriggers) keep it up to date on every insert, update
+ * and delete, so totals can be read from a few dozen rows instead of summing
+ * the whole history. Rows whose count falls to zero are removed.
+ */
+@Entity(
+    tableName = "monthly_summary",
+    primaryKeys = ["month_index", "category_id"]    // Also serves month range queries
+)
+data class MonthlySummary(
+    @ColumnInfo(name = "month_index")
+    val monthIndex: Int,                // year * 12 + (month - 1), as stored on each transaction
+
+    @ColumnInfo(name = "category_id")
+    val categoryID: Long,
+
+    @ColumnInfo(name = "spend")
+    val spend: Long,                    // Outgoing total, minor units
+
+    @ColumnInfo(name = "income")
+    val income: Long,                   // Incoming total, minor units
+
+    @ColumnInfo(name = "count")
+    val count: Int                      // Number of transactions
+)
+{
+    /**
+     * The calendar month this row summarises
+     */
+    val yearMonth: YearMonth
+        get() = YearMonth.of(Math.floorDiv(monthIndex, 12), Math.floorMod(monthIndex, 12) + 1)
+
+    companion object
+    {
+        /**
+         * Returns the month index of [yearMonth], as stored in month_index
+         */
+        @JvmStatic
+        fun monthIndexOf(yearMonth: YearMonth): Int = yearMonth.year * 12 + (yearMonth.monthValue - 1)
+
+        /**
+         * Returns the month index of a transaction's dateTime in [zone]
+         */
+        @JvmStatic
+        fun monthIndexOf(epochMillis: Long, zone: ZoneId): Int =
+            monthIndexOf(YearMonth.from(Instant.ofEpochMilli(epochMillis).atZone(zone)))
+    }
+}
@@ -1,35 +1,44 @@
 package com.example.budgetbuddy.domain.entities;
 
-import com.github.mikephil.charting.data.PieDataSet;
-
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Data Transfer Object containing a <code>PieDataSet</code>, a list of a <code>PieChartLegendItem</code> objects
- * and a list of Color Integers.
+ * Data Transfer Object containing a list of <code>PieChartSlice</code> objects and a list of
+ * <code>PieChartLegendItem</code> objects. Compared structurally, so an unchanged chart can be skipped.
  */
 public class PieChartData {
-    private final PieDataSet dataSet;
-    private final List<Integer> colours;
+    private final List<PieChartSlice> slices;
     private final List<PieChartLegendItem> legendItems;
 
 
-    public PieChartData(PieDataSet dataSet, List<Integer> colours, List<PieChartLegendItem> legendItems) {
-        this.dataSet = dataSet;
-        this.colours = colours;
+    public PieChartData(List<PieChartSlice> slices, List<PieChartLegendItem> legendItems) {
+        this.slices = slices;
         this.legendItems = legendItems;
     }
 
-    public List<Integer> getColours()
-    {
-        return colours;
-    }
-
-    public PieDataSet getDataSet() {
-        return dataSet;
+    public List<PieChartSlice> getSlices() {
+        return slices;
     }
 
     public List<PieChartLegendItem> getLegendItems() {
         return legendItems;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PieChartData)) {
+            return false;
+        }
+        PieChartData other = (PieChartData) o;
+        return Objects.equals(slices, other.slices) && Objects.equals(legendItems, other.legendItems);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(slices, legendItems);
+    }
 }
@@ -2,6 +2,8 @@ package com.example.budgetbuddy.domain.entities;
 
 import androidx.annotation.ColorInt;
 
+import java.util.Objects;
+
 /**
  * Holds a single row in the RecyclerView of the PieChart's legend.
  * Represents a category's proportion of the total with it's name and colour
@@ -36,4 +38,25 @@ public class PieChartLegendItem
     {
         return color;
     }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof PieChartLegendItem))
+        {
+            return false;
+        }
+        PieChartLegendItem other = (PieChartLegendItem) o;
+        return color == other.color && Objects.equals(name, other.name) && Objects.equals(percentage, other.percentage);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(name, percentage, color);
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.budgetbuddy.domain.entities;
+
+import androidx.annotation.ColorRes;
+
+import java.util.Objects;
+
+/**
+ * Holds a single slice of the overview PieChart: its label, its amount and the colour resource to draw it with.
+ * Kept free of MPAndroidChart types so slices can be compared between emissions.
+ */
+public class PieChartSlice
+{
+    private final String label;
+    private final long amount;      // Minor units (pence)
+    @ColorRes
+    private final int colorID;      // Unresolved, resolve with ColorHandler.getColorARGB
+
+
+    public PieChartSlice(String label, long amount, @ColorRes int colorID)
+    {
+        this.label = label;
+        this.amount = amount;
+        this.colorID = colorID;
+    }
+
+
+    public String getLabel()
+    {
+        return label;
+    }
+
+    public long getAmount()
+    {
+        return amount;
+    }
+
+    @ColorRes
+    public int getColorID()
+    {
+        return colorID;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof PieChartSlice))
+        {
+            return false;
+        }
+        PieChartSlice other = (PieChartSlice) o;
+        return amount == other.amount && colorID == other.colorID && Objects.equals(label, other.label);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(label, amount, colorID);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.budgetbuddy.domain.entities
+
+/**
+ * One row of a cash-flow projection: a transaction, whether it is a real row
+ * or a future occurrence of a recurring rule that has not been inserted, and
+ * the running balance after it. Built by CashFlowProjector.
+ */
+data class ProjectedEntry(
+    val transaction: Transaction,
+    val isProjected: Boolean,           // True for a virtual occurrence (transaction.id is 0)
+    val balance: Long                   // Running balance in minor units, after this entry
+)
@@ -0,0 +1,111 @@
+package com.example.budgetbuddy.domain.entities
+
+import androidx.room.ColumnInfo
+import androidx.room.Entity
+import androidx.room.ForeignKey
+import androidx.room.Index
+import androidx.room.PrimaryKey
+import com.example.budgetbuddy.enums.RepeatDuration
+import com.example.budgetbuddy.enums.TransactionType
+
+/**
+ * Data class for RecurringRule objects acting as an Entity in the room database.
+ * Describes a transaction that repeats every [repeatDuration] from [startDateTime].
+ *
+ * [lastMaterialized] is the watermark: every occurrence up to and including it
+ * has already been inserted into the transaction table, so only the occurrences
+ * after it are ever generated. The first occurrence is the transaction the user
+ * entered, so a new rule starts with the watermark at [startDateTime].
+ *
+ * [sourceTransactionID] is that first transaction. Deleting it deletes the
+ * rule too, so no further occurrences are inserted.
+ */
+@Entity(
+    tableName = "recurring_rule",
+    foreignKeys = [
+        ForeignKey(
+            entity = Category::class,
+            parentColumns = ["id"],
+            childColumns = ["categoryID"],
+            onDelete = ForeignKey.RESTRICT
+        ),
+        ForeignKey(
+            entity = Transaction::class,
+            parentColumns = ["id"],
+            childColumns = ["sourceTransactionID"],
+            onDelete = ForeignKey.CASCADE
+        )
+    ],
+    indices = [Index(value = ["categoryID"]), Index(value = ["sourceTransactionID"])]
+)
+data class RecurringRule(
+    @PrimaryKey(autoGenerate = true)
+    val id: Long = 0,
+
+    @ColumnInfo(name = "sourceTransactionID")
+    val sourceTransactionID: Long,      // The transaction the user entered
+
+    @ColumnInfo(name = "amount")
+    val amount: Long,                   // Minor units (pence)
+
+    @ColumnInfo(name = "type")
+    val type: TransactionType,
+
+    @ColumnInfo(name = "categoryID")
+    val categoryID: Long,
+
+    @ColumnInfo(name = "repeat")
+    val repeatDuration: RepeatDuration, // Never NEVER
+
+    @ColumnInfo(name = "startDateTime")
+    val startDateTime: Long,            // First occurrence, epoch milliseconds
+
+    @ColumnInfo(name = "lastMaterialized")
+    val lastMaterialized: Long,         // Watermark, epoch milliseconds
+
+    @ColumnInfo(name = "note")
+    val note: String? = null
+)
+{
+    /**
+     * Creates the Transaction for one occurrence of this rule. Occurrences are
+     * stored as one-off transactions, so only the rule itself repeats
+     */
+    fun toTransaction(dateTime: Long) = Transaction(
+        amount = amount,
+        type = type,
+        dateTime = dateTime,
+        categoryID = categoryID,
+        repeatDuration = RepeatDuration.NEVER,
+        note = note
+    )
+
+    companion object
+    {
+        /**
+         * Creates the rule for a repeating [transaction], which is its first
+         * occurrence. The transaction must already be saved, so it has an id
+         */
+        @JvmStatic
+        fun from(transaction: Transaction) = RecurringRule(
+            sourceTransactionID = transaction.id,
+            amount = transaction.amount,
+            type = transaction.type,
+            categoryID = transaction.categoryID,
+            repeatDuration = transaction.repeatDuration,
+            startDateTime = transaction.dateTime,
+            lastMaterialized = transaction.dateTime,
+            note = transaction.note
+        )
+    }
+}
+
+/**
+ * The occurrences of [rule] that have fallen due, and the [watermark] the rule
+ * moves to once they are inserted (the last occurrence's date time)
+ */
+data class RuleOccurrences(
+    val rule: RecurringRule,
+    val watermark: Long,                // Epoch milliseconds
+    val occurrences: List<Transaction>
+)
@@ -2,39 +2,74 @@ package com.example.budgetbuddy.domain.entities
 
 import androidx.room.ColumnInfo
 import androidx.room.Entity
+import androidx.room.ForeignKey
+import androidx.room.Index
 import androidx.room.PrimaryKey
 import com.example.budgetbuddy.enums.RepeatDuration
 import com.example.budgetbuddy.enums.TransactionType
 import com.example.budgetbuddy.domain.Result
-import java.text.SimpleDateFormat
-import java.util.Calendar
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.format.DateTimeFormatter
+import java.time.format.DateTimeParseException
 import java.util.Locale
 
 /**
  * Data class for Transaction objects acting as an Entity in the room database.
  * Auto-generates primary keys.
+ *
+ * datetime is indexed so ORDER BY datetime queries walk the index instead of
+ * sorting the table, and categoryID is indexed for the category join/foreign key.
+ * Categories cannot be deleted while transactions still reference them.
+ *
+ * The optional note is indexed for full-text search by TransactionFts.
+ *
+ * monthIndex is the calendar month of dateTime in the time zone the transaction
+ * was created in, and is the key of its monthly_summary row. It is stored rather
+ * than recalculated, so the summary stays correct if the time zone changes.
  */
-@Entity(tableName = "transaction")
+@Entity(
+    tableName = "transaction",
+    foreignKeys = [ForeignKey(
+        entity = Category::class,
+        parentColumns = ["id"],
+        childColumns = ["categoryID"],
+        onDelete = ForeignKey.RESTRICT
+    )],
+    indices = [Index(value = ["datetime"]), Index(value = ["categoryID"])]
+)
 data class Transaction(
     @PrimaryKey(autoGenerate = true)    // Let Room handle ID generation
     val id: Long = 0,                   // kotlin does not have primitive long
 
     @ColumnInfo(name = "amount")
-    val amount: Double,                 // nor double
+    val amount: Long,                   // Minor units (pence), summed exactly in SQL
 
     @ColumnInfo(name = "type")
     val type: TransactionType,
 
     @ColumnInfo(name = "datetime")
-    val dateTime: Calendar,
+    val dateTime: Long,                 // Epoch milliseconds, stored as-is (no TypeConverter)
 
     @ColumnInfo(name = "categoryID")
     val categoryID: Long,               // Foreign key to Category object
 
     @ColumnInfo(name = "repeat")
-    val repeatDuration: RepeatDuration
+    val repeatDuration: RepeatDuration,
+
+    @ColumnInfo(name = "note")
+    val note: String? = null            // Free text, e.g. the merchant. Searchable
 )
 {
+    /*
+    Declared in the body rather than the constructor, so it is always worked out from
+    dateTime: copy() with a new dateTime gets a new monthIndex instead of keeping the old one.
+    Room sets it after construction when reading a row, so the stored month is kept.
+     */
+    @ColumnInfo(name = "month_index", defaultValue = "0")
+    var monthIndex: Int = MonthlySummary.monthIndexOf(dateTime, ZoneId.systemDefault())
+
     /**
      * Overrides toString method from base data class. Outputs transaction data
      * for logging
@@ -43,22 +78,28 @@ data class Transaction(
     {
         return String.format(
             Locale.getDefault(),
-            "ID: %s, Amount: %.2f, Type: %s, Date: %s",
-            id, amount, type, dateTimeString
+            "ID: %s, Amount: %d.%02d, Type: %s, Date: %s",
+            id, amount / 100, amount % 100, type, dateTimeString
         )
     }
 
+    /**
+     * The dateTime as a LocalDateTime in the device's time zone. Only created
+     * when needed for display, rows read from the database hold just the Long
+     */
+    val localDateTime: LocalDateTime
+        get() = LocalDateTime.ofInstant(Instant.ofEpochMilli(dateTime), ZoneId.systemDefault())
+
     // Define the formatting for the dateTime variable
     val dateTimeString: String
-        get() = String.format(      // "custom" get setter
-            Locale.getDefault(),
-            "%02d:%02d %02d/%02d/%d",
-            dateTime.get(Calendar.HOUR_OF_DAY),
-            dateTime.get(Calendar.MINUTE),
-            dateTime.get(Calendar.DAY_OF_MONTH),
-            dateTime.get(Calendar.MONTH) + 1,
-            dateTime.get(Calendar.YEAR)
-        )
+        get() = localDateTime.format(DISPLAY_FORMATTER)    // "custom" get setter
+
+    companion object
+    {
+        // DateTimeFormatter is immutable and thread-safe, so one instance is shared
+        private val DISPLAY_FORMATTER: DateTimeFormatter =
+            DateTimeFormatter.ofPattern("HH:mm dd/MM/yyyy", Locale.getDefault())
+    }
 }
 
 sealed interface TransactionError
@@ -87,8 +128,10 @@ enum class RepeatDuration
 
 
 /**
- * Transaction amounts are taken in as strings and parsed to doubles
- * in this value class. Returns TransactionError if parsing fails
+ * Transaction amounts are taken in as strings and parsed to minor units
+ * (pence) in this value class. Returns TransactionError if parsing fails.
+ * The string is parsed digit-by-digit, never through a Double, so the stored
+ * amount is exactly what the user typed.
  *
  *
  *               Regex:
@@ -100,15 +143,16 @@ enum class RepeatDuration
  *
  */
 @JvmInline
-value class TransactionAmount(val value: Double)
+value class TransactionAmount(val value: Long /* Minor units */)
 {
     companion object
     {
+        private val AMOUNT_REGEX = Regex("[0-9]+(\\.[0-9]{1,2})?")
+
         fun create(raw: String): Result<TransactionError, TransactionAmount>
         {
-            // Pre-trim and compile regex
+            // Pre-trim
             val trimmed = raw.trim()
-            val regex = Regex("[0-9]+(\\.[0-9]{1,2})?")
 
             return when
             {
@@ -117,26 +161,49 @@ value class TransactionAmount(val value: Double)
                     Result.Failure(TransactionError.Empty)
 
                 // Doesn't match pattern
-                !trimmed.matches(regex)
+                !trimmed.matches(AMOUNT_REGEX)
                     -> Result.Failure(TransactionError.BadFormat)
 
-                // Parse to double & catch unexpected errors
+                // Parse to minor units & catch overflow
                 else ->
                 {
                     /*
-                    Returns the TransactionAmount(Double) if non-null, or
+                    Returns the TransactionAmount(Long) if non-null, or
                     TransactionError.BadFormat if it is null.
-                    ?.let performs a safe call to TransactionAmount([the double])
-                    "Safe" meaning only if toDoubleOrNull returned non-null
+                    ?.let performs a safe call to TransactionAmount([the long])
+                    "Safe" meaning only if parseMinorUnits returned non-null
 
                     if the left-hand value ^ is null, ?: returns the right-hand value
                      */
-                    trimmed.toDoubleOrNull()
+                    parseMinorUnits(trimmed)
                         ?.let { Result.Success(TransactionAmount(it)) }
                         ?: Result.Failure(TransactionError.BadFormat)
                 }
             }
         }
+
+        /**
+         * Parses a currency string such as "12", "12.5" or "12.50" into minor
+         * units (1200, 1250, 1250). Returns null if the string is not in that
+         * format or is too large to hold in a Long
+         */
+        @JvmStatic
+        fun parseMinorUnits(raw: String): Long?
+        {
+            val trimmed = raw.trim()
+            if (!trimmed.matches(AMOUNT_REGEX)) return null
+
+            val pointIndex = trimmed.indexOf('.')
+            val wholePart = if (pointIndex < 0) trimmed else trimmed.substring(0, pointIndex)
+            val fractionPart = if (pointIndex < 0) "" else trimmed.substring(pointIndex + 1)
+
+            val whole = wholePart.toLongOrNull() ?: return null
+            if (whole > Long.MAX_VALUE / 100) return null   // Would overflow once scaled
+
+            // "5" after the point means 50 pence, so pad to two digits
+            val fraction = fractionPart.padEnd(2, '0').toLong()
+            return whole * 100 + fraction
+        }
     }
 }
 
@@ -162,24 +229,28 @@ value class TransactionCategory(val value: Long /* Foreign key */)
 
 
 /**
- * Value class enforcing correct date-time format
+ * Value class enforcing correct date-time format. Parses the date and time
+ * strings from the UI into epoch milliseconds in the device's time zone
  */
 @JvmInline
-value class TransactionDateTime(val calendar: Calendar)
+value class TransactionDateTime(val value: Long /* Epoch milliseconds */)
 {
     companion object
     {
-        fun create(rawDate: String, rawTime: String)
-        {
-            val dateFormat = SimpleDateFormat("dd/MM/YYYY HH:mm", Locale.getDefault())
+        private val INPUT_FORMATTER: DateTimeFormatter =
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm", Locale.getDefault())
 
-            try
+        fun create(rawDate: String, rawTime: String): Result<TransactionError, TransactionDateTime>
+        {
+            return try
+            {
+                val parsed = LocalDateTime.parse("${rawDate.trim()} ${rawTime.trim()}", INPUT_FORMATTER)
+                val millis = parsed.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                Result.Success(TransactionDateTime(millis))
+            } catch (e: DateTimeParseException)
             {
-                val parsedDateTime = dateFormat.parse(rawDate + " " )
+                Result.Failure(TransactionError.InvalidDateTime)
             }
         }
-
     }
 }
-
-
@@ -0,0 +1,34 @@
+package com.example.budgetbuddy.domain.entities
+
+import com.example.budgetbuddy.enums.TransactionType
+
+/**
+ * Query object describing which transactions to show. Every criterion is
+ * optional; a null (or empty) criterion does not restrict the results, so
+ * the default TransactionFilter matches every transaction.
+ *
+ * The filter is compiled to SQL by TransactionFilterQuery and evaluated by
+ * the database, so the full history is never loaded to be filtered in memory.
+ */
+data class TransactionFilter(
+    val categoryIDs: Set<Long> = emptySet(),    // Any of these categories, empty for all
+    val type: TransactionType? = null,
+    val minAmount: Long? = null,                // Inclusive, minor units
+    val maxAmount: Long? = null,                // Inclusive, minor units
+    val startDateTime: Long? = null,            // Inclusive, epoch milliseconds
+    val endDateTime: Long? = null               // Exclusive, epoch milliseconds
+)
+{
+    /**
+     * True if no criteria are set, i.e. the filter matches every transaction
+     */
+    val isEmpty: Boolean
+        get() = this == NONE
+
+    companion object
+    {
+        // Matches every transaction
+        @JvmField
+        val NONE = TransactionFilter()
+    }
+}
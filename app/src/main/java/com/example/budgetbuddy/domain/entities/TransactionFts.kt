@@ -0,0 +1,20 @@
+package com.example.budgetbuddy.domain.entities
+
+import androidx.room.ColumnInfo
+import androidx.room.Entity
+import androidx.room.Fts4
+
+/**
+ * FTS4 index over the note column of the transaction table, used by
+ * TransactionDao.search.
+ *
+ * An external content table: the text is only stored once, in the
+ * transaction table, and Room creates triggers that keep the index in sync
+ * on every insert, update and delete. Each row's docid is the transaction id.
+ */
+@Fts4(contentEntity = Transaction::class)
+@Entity(tableName = "transaction_fts")
+data class TransactionFts(
+    @ColumnInfo(name = "note")
+    val note: String?
+)
@@ -1,9 +1,64 @@
 package com.example.budgetbuddy.domain.services
 
+import com.example.budgetbuddy.data.PreferenceRepository
+import com.example.budgetbuddy.data.TransactionRepository
+import com.example.budgetbuddy.domain.entities.BudgetPeriod
+import com.example.budgetbuddy.domain.entities.PeriodBudget
+import com.example.budgetbuddy.utility.Converters
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.flatMapLatest
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.map
+import java.time.ZoneId
 import javax.inject.Inject
 
+/**
+ * Domain-level class working out the budget for the current budget period.
+ * Only the transactions inside the active period count against the budget,
+ * so the remaining figure resets each period and its cost depends on the
+ * length of the period rather than the length of the history.
+ */
+@OptIn(ExperimentalCoroutinesApi::class)
 class BudgetService @Inject constructor(
-
+    private val transactionRepo: TransactionRepository,
+    private val prefsRepo: PreferenceRepository
 )
 {
-}
\ No newline at end of file
+    /**
+     * Emits the period containing the current time, and the next period as
+     * soon as the current one ends. Restarts when the start day changes
+     */
+    val currentPeriod: Flow<BudgetPeriod> =
+        prefsRepo.budgetPeriodStartDay
+            .distinctUntilChanged()
+            .flatMapLatest { startDay ->
+                flow {
+                    while (true)
+                    {
+                        val now = System.currentTimeMillis()
+                        val period = BudgetPeriod.containing(now, startDay, ZoneId.systemDefault())
+                        emit(period)
+                        delay(period.end - now)     // Wake up for the next period
+                    }
+                }
+            }
+
+    /**
+     * Emits the budget and the amount remaining for the current period:
+     * the budget plus the period's income, minus the period's spending.
+     * Summed by the database over the period's rows only
+     */
+    val currentPeriodBudget: Flow<PeriodBudget> =
+        currentPeriod.flatMapLatest { period ->
+            combine(
+                prefsRepo.budget.map { Converters.doubleToMinorUnits(it) },
+                transactionRepo.getNetBetween(period.start, period.end)
+            ) { totalBudget, net ->
+                PeriodBudget(period, totalBudget, totalBudget + net)
+            }
+        }
+}
@@ -38,14 +38,15 @@ class MaintenanceService @Inject constructor(
     }
 
     /**
-     * Resets the application to its factory default settings. Removes all transactions
-     * and categories, then resets the budget to 0.0 and updates "onboarding complete" to false
+     * Resets the application to its factory default settings. Removes all recurring rules,
+     * transactions and categories in one database transaction, then resets the budget to 0.0,
+     * budget periods to calendar months and updates "onboarding complete" to false
      */
     suspend fun factoryReset()
     {
-        transactionRepo.deleteAll()
-        categoryRepo.deleteAll()
+        transactionRepo.deleteAllData()
         prefsRepo.updateBudget(0.0)
+        prefsRepo.updateBudgetPeriodStartDay(1)
         prefsRepo.setOnboardingCompleted(false)
         // todo- return to main?
     }
@@ -0,0 +1,47 @@
+package com.example.budgetbuddy.domain.services
+
+import com.example.budgetbuddy.data.RecurringRuleRepository
+import com.example.budgetbuddy.data.TransactionRepository
+import com.example.budgetbuddy.domain.entities.PeriodBudget
+import com.example.budgetbuddy.domain.entities.ProjectedEntry
+import com.example.budgetbuddy.utility.CashFlowProjector
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.flowOn
+import java.time.ZoneId
+import javax.inject.Inject
+
+/**
+ * Domain-level class projecting the budget forward to the end of a budget
+ * period, including the upcoming occurrences of recurring transactions.
+ * Future occurrences are expanded in memory for the period only and are
+ * never inserted.
+ */
+class ProjectionService @Inject constructor(
+    private val transactionRepo: TransactionRepository,
+    private val recurringRepo: RecurringRuleRepository
+)
+{
+    /**
+     * Returns a Flow list of the real and projected transactions in the period
+     * of [periodBudget] with the running balance, oldest first. Re-projected
+     * whenever the period's transactions or the rules change.
+     *
+     * The balance starts from the period's budget, the same figure BudgetService
+     * uses, so after the last real transaction it equals the budget remaining.
+     * Only the period's transactions are loaded, so the cost depends on the
+     * length of the period rather than the length of the history
+     */
+    fun project(periodBudget: PeriodBudget, zone: ZoneId = ZoneId.systemDefault()): Flow<List<ProjectedEntry>>
+    {
+        val period = periodBudget.period
+        return combine(
+            transactionRepo.getBetween(period.start, period.end),
+            recurringRepo.getAllRules()
+        ) { transactions, rules ->
+            CashFlowProjector.project(periodBudget.totalBudget, transactions, rules, period.start, period.end, zone)
+        }
+            .flowOn(Dispatchers.Default)
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.budgetbuddy.domain.services
+
+import com.example.budgetbuddy.data.RecurringRuleRepository
+import com.example.budgetbuddy.domain.entities.RuleOccurrences
+import com.example.budgetbuddy.domain.entities.Transaction
+import com.example.budgetbuddy.utility.Recurrence
+import java.time.ZoneId
+import javax.inject.Inject
+
+/**
+ * Domain-level class turning recurring rules into real transactions.
+ */
+class RecurrenceService @Inject constructor(
+    private val recurringRepo: RecurringRuleRepository
+)
+{
+    /**
+     * Inserts every occurrence that has fallen due since each rule's watermark,
+     * up to and including [now]. All of the occurrences are collected first and
+     * written in one batched database transaction, so catching up after months
+     * offline costs a single bulk insert rather than one round-trip per row.
+     *
+     * The rules are read before that transaction, so each rule's occurrences are
+     * only inserted if its watermark hasn't moved in the meantime. Running this
+     * twice, even at the same time, never inserts an occurrence twice.
+     *
+     * Returns the number of transactions inserted
+     */
+    suspend fun materializeDue(now: Long = System.currentTimeMillis(), zone: ZoneId = ZoneId.systemDefault()): Int
+    {
+        val due = ArrayList<RuleOccurrences>()
+
+        for (rule in recurringRepo.getDueRules(now))
+        {
+            // Jump straight to the first occurrence after the watermark
+            var index = Recurrence.firstIndexAfter(rule.startDateTime, rule.repeatDuration, rule.lastMaterialized, zone)
+            var occurrence = Recurrence.occurrence(rule.startDateTime, rule.repeatDuration, index, zone)
+            val occurrences = ArrayList<Transaction>()
+
+            while (occurrence <= now)
+            {
+                occurrences.add(rule.toTransaction(occurrence))
+                occurrence = Recurrence.occurrence(rule.startDateTime, rule.repeatDuration, ++index, zone)
+            }
+
+            // Only rules that produced something need their watermark moved
+            if (occurrences.isNotEmpty())
+            {
+                due.add(RuleOccurrences(rule, occurrences.last().dateTime, occurrences))
+            }
+        }
+
+        return if (due.isEmpty()) 0 else recurringRepo.materialize(due)
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.budgetbuddy.domain.services
 
+import com.example.budgetbuddy.data.RecurringRuleRepository
 import com.example.budgetbuddy.data.TransactionRepository
 import com.example.budgetbuddy.domain.entities.Transaction
+import com.example.budgetbuddy.domain.entities.TransactionAmount
 import com.example.budgetbuddy.domain.Result
 import com.example.budgetbuddy.enums.RepeatDuration
 import com.example.budgetbuddy.enums.TransactionType
@@ -12,7 +14,8 @@ import javax.inject.Inject
  * Domain-level class handling business logic operations.
  */
 class ValidationService @Inject constructor(
-    private val transactionRepo: TransactionRepository
+    private val transactionRepo: TransactionRepository,
+    private val recurringRepo: RecurringRuleRepository
 )
 {
     /**
@@ -30,7 +33,7 @@ class ValidationService @Inject constructor(
     ): Result    // Returns a validation result
     {
         // If parsing the amount results in null, return an error
-        val amount = amountString.toDoubleOrNull()
+        val amount = TransactionAmount.parseMinorUnits(amountString)
             ?: return Result.Error("Invalid amount format")
 
         if (amount <= 0)
@@ -53,13 +56,22 @@ class ValidationService @Inject constructor(
         val transaction = Transaction(
             amount = amount,
             type = type,
-            dateTime = calendar,
+            dateTime = calendar.timeInMillis,
             categoryID = categoryID,
             repeatDuration = repeat
         )
 
-        // Insert via repo
-        transactionRepo.insertTransaction(transaction)
+        // Insert via repo. A repeating transaction is the first occurrence of a
+        // new rule, saved together with it; the RecurringTransactionWorker
+        // inserts the rest as they fall due
+        if (repeat == RepeatDuration.NEVER)
+        {
+            transactionRepo.insertTransaction(transaction)
+        }
+        else
+        {
+            recurringRepo.insertRecurringTransaction(transaction)
+        }
 
         return Result.Success
     }
@@ -0,0 +1,16 @@
+package com.example.budgetbuddy.ui
+
+import com.example.budgetbuddy.domain.entities.PieChartData
+
+/**
+ * Immutable snapshot of everything the OverviewFragment displays.
+ * Built off the main thread by the OverviewViewModel, so the fragment only binds it.
+ * All amounts are in minor units (pence).
+ */
+data class OverviewUiState(
+    val totalBudget: Long = 0L,
+    val budgetRemaining: Long = 0L,
+    val recentTransactions: List<TransactionRowModel> = emptyList(),  // Pre-formatted rows
+    val pieData: PieChartData? = null,  // Null until the first category totals arrive
+    val isEmpty: Boolean = false        // True once loaded with no transactions
+)
@@ -0,0 +1,43 @@
+package com.example.budgetbuddy.ui
+
+import com.example.budgetbuddy.domain.entities.TransactionWithCategory
+import com.example.budgetbuddy.enums.TransactionType
+import com.example.budgetbuddy.utility.Converters
+
+/**
+ * Immutable, display-ready version of a transaction list row.
+ * Built off the main thread by the ViewModels, so binding a row only assigns
+ * these pre-formatted strings and does no formatting while scrolling.
+ */
+data class TransactionRowModel(
+    val id: Long,
+    val categoryName: String,
+    val amountText: String,             // Formatted, with a minus sign for outgoings
+    val dateTimeText: String,
+    val isIncoming: Boolean,            // Selects the green or red amount colour
+    val source: TransactionWithCategory // Kept for row actions, e.g. delete
+)
+{
+    companion object
+    {
+        /**
+         * Formats a TransactionWithCategory into a TransactionRowModel
+         */
+        @JvmStatic
+        fun from(transactionWithCategory: TransactionWithCategory): TransactionRowModel
+        {
+            val transaction = transactionWithCategory.transaction
+            val isIncoming = transaction.type == TransactionType.INCOMING
+            val amount = Converters.minorUnitsToCurrencyString(transaction.amount)
+
+            return TransactionRowModel(
+                id = transaction.id,
+                categoryName = transactionWithCategory.category.name,
+                amountText = if (isIncoming) amount else "-$amount",
+                dateTimeText = transaction.dateTimeString,
+                isIncoming = isIncoming,
+                source = transactionWithCategory
+            )
+        }
+    }
+}
@@ -5,6 +5,7 @@ import android.os.Bundle;
 import android.util.Log;
 
 import androidx.activity.EdgeToEdge;
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
@@ -15,17 +16,27 @@ import androidx.viewpager2.widget.ViewPager2;
 
 import com.example.budgetbuddy.R;
 import com.example.budgetbuddy.adapters.AppFragmentStateAdapter;
+import com.example.budgetbuddy.adapters.SharedRowPool;
 import com.example.budgetbuddy.ui.viewmodel.StartupViewModel;
 import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.tabs.TabLayout;
 import com.google.android.material.tabs.TabLayoutMediator;
 
+import dagger.hilt.android.AndroidEntryPoint;
+
 /**
  * Contains the fragments within a <code>ViewPager2</code> attached to a <code>TabLayout</code> for top-bar navigation and automatically updates title bar text.
  * Also handles first time startup logic via the <code>StartupViewModel</code>
+ * Annotated <code>@AndroidEntryPoint</code> so that Hilt can inject the fragments it hosts.
+ * Owns the <code>SharedRowPool</code> used by the fragments' transaction lists.
  */
-public class MainActivity extends AppCompatActivity
+@AndroidEntryPoint
+public class MainActivity extends AppCompatActivity implements SharedRowPool.Owner
 {
+    private static final int PRE_INFLATED_ROWS = 10;    // About one screen of rows per layout
+
+    private final SharedRowPool sharedRowPool = new SharedRowPool();
+
     @Override
     protected void onCreate(Bundle savedInstanceState)
     {
@@ -64,6 +75,11 @@ public class MainActivity extends AppCompatActivity
 
         // Set adapter on viewPager
         viewPager.setAdapter(new AppFragmentStateAdapter(this));
+
+        // Inflate transaction rows in the background once startup has settled, so the first
+        // switch to a tab with a transaction list does not inflate rows on the main thread
+        sharedRowPool.preInflate(this, PRE_INFLATED_ROWS, R.layout.transaction_item, R.layout.editable_transaction_item);
+
         new TabLayoutMediator(tabLayout, viewPager,
 
                 // Set the tab to the selected fragment title
@@ -123,6 +139,23 @@ public class MainActivity extends AppCompatActivity
 
     }
 
+    @Override
+    protected void onDestroy()
+    {
+        sharedRowPool.clear();
+        super.onDestroy();
+    }
+
+    /**
+     * @return the <code>SharedRowPool</code> shared by this activity's fragments
+     */
+    @NonNull
+    @Override
+    public SharedRowPool getSharedRowPool()
+    {
+        return sharedRowPool;
+    }
+
     /**
      * Starts an <code>Intent</code> to go to the <code>FirstTimeStartupActivity</code>
      */
@@ -21,11 +21,12 @@ import com.example.budgetbuddy.domain.entities.Category;
 import com.example.budgetbuddy.utility.TransactionUtils;
 import com.example.budgetbuddy.ui.viewmodel.AddViewModel;
 import com.example.budgetbuddy.ui.dialogs.DatePickerFragment;
+import com.example.budgetbuddy.utility.CategoryChipPool;
 import com.example.budgetbuddy.utility.ChipHandler;
 import com.example.budgetbuddy.ui.dialogs.TimePickerFragment;
 import com.example.budgetbuddy.enums.RepeatDuration;
 import com.example.budgetbuddy.enums.TransactionType;
-import com.example.budgetbuddy.utility.Convertersold;
+import com.example.budgetbuddy.utility.Converters;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.chip.ChipGroup;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
@@ -44,6 +45,7 @@ public class AddFragmentOld extends Fragment
 {
     private EditText dateText, timeText, amountText;
     private ChipGroup chipGroupCategories;
+    private CategoryChipPool chipPool;      // Created with the first category list, lives as long as the view
     private AddViewModel addViewModel;
     private RadioButton rbIncoming, rbNever;
     private RadioGroup radioGroupType, radioGroupRepeat;
@@ -80,6 +82,7 @@ public class AddFragmentOld extends Fragment
         amountText = v.findViewById(R.id.editTextAmount);
 
         chipGroupCategories = v.findViewById(R.id.chipGroupCategories);
+        chipPool = null;    // Chips belong to the old view, start a new pool
         rbIncoming = v.findViewById(R.id.rbIncoming);
         rbNever = v.findViewById(R.id.rbNever);
 
@@ -152,50 +155,50 @@ public class AddFragmentOld extends Fragment
 
 
     /**
-     * Creates a new Chip for each of the categories in the category list. The background of the chip is set to the category colour.
-     * Additionally creates the "addChip" which opens a CategoryCreatorFragment
+     * Updates the ChipGroup to show a Chip for each of the categories in the category list. The background of the chip is set
+     * to the category colour. Chips are kept by the CategoryChipPool between refreshes, so only new, removed or edited
+     * categories cause any work. Additionally creates the "addChip" which opens a CategoryCreatorFragment
      *
      * @param categories a list of Category objects
      *
      */
     private void populateChipGroup(@NonNull List<Category> categories)
     {
-        // Empty the ChipGroup
-        chipGroupCategories.removeAllViews();
-
-        // Create the "add category" chip
-        Chip addChip = ChipHandler.createAddCategoryChip(requireContext());
-
-        // Open the CategoryCreator when clicked
-        addChip.setOnClickListener(v ->
-        {
-            CategoryCreatorFragment categoryCreatorFragment = new CategoryCreatorFragment(requireContext(), categoryList);
-            categoryCreatorFragment.show(getParentFragmentManager(), "categoryCreator");
-        });
-
-        // Add the category chips
-        for (Category c : categories)
+        if (chipPool == null)
         {
-            Chip chip = ChipHandler.createChip(requireContext(), c);
+            // Create the "add category" chip
+            Chip addChip = ChipHandler.createAddCategoryChip(requireContext());
 
-            // Force the view to give the chip an ID
-            if (chip.getId() == View.NO_ID)
+            // Open the CategoryCreator when clicked
+            addChip.setOnClickListener(v ->
             {
-                chip.setId(View.generateViewId());
-            }
+                CategoryCreatorFragment categoryCreatorFragment = new CategoryCreatorFragment(requireContext(), categoryList);
+                categoryCreatorFragment.show(getParentFragmentManager(), "categoryCreator");
+            });
+
+            chipGroupCategories.removeAllViews();
+            chipPool = new CategoryChipPool(chipGroupCategories, addChip);
+        }
 
-            chipGroupCategories.addView(chip);
+        // Add, remove or re-bind only the chips that changed
+        chipPool.update(requireContext(), categories);
 
-            // Check if the pendingCategory string matches the chip name
-            // If so, check (select) the chip and reset pendingCategory
-            if (pendingCategory != null && pendingCategory.equals(c.getName()))
+        // Check if the pendingCategory string matches a category name
+        // If so, check (select) its chip and reset pendingCategory
+        if (pendingCategory != null)
+        {
+            for (Category c : categories)
             {
-                Log.v("AddFragment", "Checking chip");
-                chipGroupCategories.check(chip.getId());
-                pendingCategory = null;
+                Chip chip = chipPool.getChip(c.getId());
+                if (pendingCategory.equals(c.getName()) && chip != null)
+                {
+                    Log.v("AddFragment", "Checking chip");
+                    chipGroupCategories.check(chip.getId());
+                    pendingCategory = null;
+                    break;
+                }
             }
         }
-        chipGroupCategories.addView(addChip);
 
         Log.d("AddFragment", "Populated ChipGroup with " + categories.size() + " categories");
     }
@@ -210,8 +213,8 @@ public class AddFragmentOld extends Fragment
 
         // Always use 00:00 format for time output, i.e. 03:00 instead of 3.0
         // Set the locale to be the user's region
-        timeText.setText(Convertersold.calendarToHourMinute(userTime));
-        dateText.setText(Convertersold.calendarToDayMonthYear(userTime));
+        timeText.setText(Converters.calendarToHourMinute(userTime));
+        dateText.setText(Converters.calendarToDayMonthYear(userTime));
 
     }
 
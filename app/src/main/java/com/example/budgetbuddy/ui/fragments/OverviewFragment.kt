@@ -0,0 +1,187 @@
+package com.example.budgetbuddy.ui.fragments
+
+import android.os.Bundle
+import android.util.Log
+import android.view.View
+import android.widget.TextView
+import androidx.core.os.bundleOf
+import androidx.fragment.app.Fragment
+import androidx.fragment.app.viewModels
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.lifecycleScope
+import androidx.lifecycle.repeatOnLifecycle
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import com.example.budgetbuddy.R
+import com.example.budgetbuddy.adapters.PieChartLegendAdapter
+import com.example.budgetbuddy.adapters.RecyclerViewAdapter
+import com.example.budgetbuddy.adapters.SharedRowPool
+import com.example.budgetbuddy.domain.entities.PieChartData
+import com.example.budgetbuddy.domain.entities.ProjectedEntry
+import com.example.budgetbuddy.ui.OverviewUiState
+import com.example.budgetbuddy.ui.viewmodel.OverviewViewModel
+import com.example.budgetbuddy.utility.ColorHandler
+import com.example.budgetbuddy.utility.Converters
+import com.example.budgetbuddy.utility.PieChartBinder
+import com.github.mikephil.charting.charts.PieChart
+import com.google.android.material.floatingactionbutton.FloatingActionButton
+import dagger.hilt.android.AndroidEntryPoint
+import kotlinx.coroutines.launch
+
+/**
+ * The fragment subclass for the Overview section of the app.
+ * Connects to fragment_overview.xml to provide layout.
+ * Binds the OverviewUiState and the cash-flow projection computed by the OverviewViewModel;
+ * no aggregation happens here
+ */
+@AndroidEntryPoint
+class OverviewFragment : Fragment(R.layout.fragment_overview)
+{
+    // Get the ViewModel
+    private val viewModel by viewModels<OverviewViewModel>()
+
+    private lateinit var recyclerViewAdapter: RecyclerViewAdapter
+    private lateinit var pieLegendAdapter: PieChartLegendAdapter
+    private lateinit var pieChart: PieChart
+    private lateinit var pieChartBinder: PieChartBinder     // Reuses the chart's dataset between states
+    private lateinit var rvPartialHistory: RecyclerView
+    private lateinit var pieChartLegend: RecyclerView
+    private lateinit var txtRecentTransactions: TextView
+    private lateinit var txtBudgetRemaining: TextView
+    private lateinit var txtTotalBudget: TextView
+    private lateinit var txtProjectedBalance: TextView
+    private lateinit var emptyView: View   // Instance of empty layout for no-transaction state
+
+
+    override fun onViewCreated(view: View, savedInstanceState: Bundle?)
+    {
+        Log.d("OverviewFragment", "Loaded overview fragment")
+        super.onViewCreated(view, savedInstanceState)
+
+        // Get the Views from the layout
+        pieChart = view.findViewById(R.id.pieChart)
+        txtRecentTransactions = view.findViewById(R.id.tvRecentTransactions)
+        txtBudgetRemaining = view.findViewById(R.id.tvBudgetRemaining)
+        txtTotalBudget = view.findViewById(R.id.tvTotalBudget)
+        txtProjectedBalance = view.findViewById(R.id.tvProjectedBalance)
+        rvPartialHistory = view.findViewById(R.id.rvPartialHistory)
+        pieChartLegend = view.findViewById(R.id.pieChartLegend)
+        emptyView = view.findViewById(R.id.overviewEmptyState)
+        val addButton = view.findViewById<FloatingActionButton>(R.id.overviewAddButton)
+
+        pieChartBinder = PieChartBinder(pieChart)   // Also styles the chart
+
+        // Instantiate the RecyclerView with an empty list (the state will update it).
+        // Rows come from the activity's shared pool, pre-inflated while the app was idle
+        val rowPool = (activity as? SharedRowPool.Owner)?.sharedRowPool
+        recyclerViewAdapter = RecyclerViewAdapter(R.layout.transaction_item, rowPool)
+        rvPartialHistory.layoutManager = LinearLayoutManager(context)
+        rowPool?.attach(rvPartialHistory)
+        rvPartialHistory.adapter = recyclerViewAdapter
+
+        // Instantiate the Pie Chart legend
+        pieLegendAdapter = PieChartLegendAdapter(requireContext())
+        pieChartLegend.layoutManager = LinearLayoutManager(context)
+        pieChartLegend.adapter = pieLegendAdapter
+
+        // Bind each new state while the fragment is visible
+        viewLifecycleOwner.lifecycleScope.launch {
+            viewLifecycleOwner.repeatOnLifecycle(Lifecycle.State.STARTED)
+            {
+                launch { viewModel.uiState.collect { state -> bind(state) } }
+                launch { viewModel.projection.collect { entries -> updateProjectedBalance(entries) } }
+            }
+        }
+
+        // Set up the FloatingActionButton to direct the user to the Add Fragment
+        addButton.setOnClickListener {
+            // Use FragmentResult to send a message to the MainActivity
+            // Send 1 to change the page title to 'Add'
+            parentFragmentManager.setFragmentResult("addPage", bundleOf("addPage" to 1))
+        }
+    }
+
+    /**
+     * Binds a precomputed OverviewUiState to the views
+     */
+    private fun bind(state: OverviewUiState)
+    {
+        // If empty, hide the views
+        val visibleIfData = if (state.isEmpty) View.GONE else View.VISIBLE
+        pieChart.visibility = visibleIfData
+        rvPartialHistory.visibility = visibleIfData
+        pieChartLegend.visibility = visibleIfData
+        txtRecentTransactions.visibility = visibleIfData
+        emptyView.visibility = if (state.isEmpty) View.VISIBLE else View.GONE
+
+        updateRemainingBudget(state.totalBudget, state.budgetRemaining)
+
+        if (!state.isEmpty)
+        {
+            // Already newest-first from the DAO. The diff runs in the background, so
+            // scroll back to the top to show the new transaction once it has been applied
+            recyclerViewAdapter.submitList(state.recentTransactions) {
+                rvPartialHistory.layoutManager?.scrollToPosition(0)
+            }
+        }
+
+        state.pieData?.let { updatePieChart(it) }
+    }
+
+    override fun onDestroyView()
+    {
+        pieChartBinder.cancelAnimation()
+        super.onDestroyView()
+    }
+
+    /**
+     * Displays the remaining and total budget
+     *
+     * @param totalBudget the total budget in minor units
+     * @param remainingBudget the remaining budget in minor units
+     */
+    private fun updateRemainingBudget(totalBudget: Long, remainingBudget: Long)
+    {
+        // Display the remaining budget
+        txtBudgetRemaining.text = Converters.minorUnitsToCurrencyString(remainingBudget)
+        Log.d("OverviewFragment", "Remaining budget: $remainingBudget of: $totalBudget")
+
+        // Display the total budget
+        txtTotalBudget.text = "Monthly Budget: " + Converters.minorUnitsToCurrencyString(totalBudget)
+
+        // Set the text colour to red if negative, green if positive
+        ColorHandler.setAmountColour(txtBudgetRemaining, remainingBudget.toDouble())
+    }
+
+    /**
+     * Displays the balance projected for the end of the budget period.
+     * Hidden until there is something to project
+     *
+     * @param entries the period's real and projected transactions, oldest first
+     */
+    private fun updateProjectedBalance(entries: List<ProjectedEntry>)
+    {
+        val projected = entries.lastOrNull()
+        txtProjectedBalance.visibility = if (projected == null) View.GONE else View.VISIBLE
+        if (projected != null)
+        {
+            txtProjectedBalance.text = getString(R.string.label_projected_balance,
+                Converters.minorUnitsToCurrencyString(projected.balance))
+        }
+    }
+
+    /**
+     * Updates the PieChart and its legend with the new data.
+     * Does nothing if the slices and legend are unchanged since the last state
+     *
+     * @param pieData the PieChartData built from the category totals
+     */
+    private fun updatePieChart(pieData: PieChartData)
+    {
+        if (pieChartBinder.bind(requireContext(), pieData))
+        {
+            // Update the legend, only changed rows are rebound
+            pieLegendAdapter.submitList(pieData.legendItems)
+        }
+    }
+}
@@ -18,10 +18,16 @@ import com.example.budgetbuddy.ui.dialogs.ConfirmResetFragment;
 import com.example.budgetbuddy.ui.viewmodel.BudgetViewModel;
 import com.example.budgetbuddy.ui.viewmodel.SettingsViewModel;
 
+import java.util.Locale;
+
+import dagger.hilt.android.AndroidEntryPoint;
+
 /**
  * Extends PreferenceFragmentCompat. Loads <code>preferences.xml</code> to create the options,
  * carries out input validation and displays settings to the user.
+ * The budget is stored in DataStore through the <code>BudgetViewModel</code>, not in SharedPreferences.
  */
+@AndroidEntryPoint
 public class SettingsFragment extends PreferenceFragmentCompat
 {
     /**
@@ -51,12 +57,17 @@ public class SettingsFragment extends PreferenceFragmentCompat
             Log.e("SettingsFragment", "Failed to load budget preference");
         } else
         {
+            // Show the stored budget. The preference is not persisted, the ViewModel saves it
+            budgetViewModel.getBudget().observe(this, budget ->
+                    budgetPreference.setText(String.format(Locale.UK, "%.2f", budget)));
+
             // Send new budgets to the BudgetViewModel to save & validate
             budgetPreference.setOnPreferenceChangeListener((preference, newValue) ->
             {
                 switch (budgetViewModel.validateBudget(newValue))
                 {
                     case NONE:
+                        budgetViewModel.updateBudget((String) newValue);
                         Toast.makeText(getContext(), "Budget changed to: £" + newValue, Toast.LENGTH_SHORT)
                                 .show();
                         Log.v("SettingsFragment", "Updated budget to: " + newValue);
@@ -92,9 +103,11 @@ public class SettingsFragment extends PreferenceFragmentCompat
                     boolean confirmed = result.getBoolean(ConfirmResetFragment.RESPONSE_KEY);
                     if (confirmed) {
                         Log.d("SettingsFragment", "App reset confirmed");
-                        settingsViewModel.resetDB();
-                        startActivity(new Intent(getActivity(), MainActivity.class));
-                        Toast.makeText(getContext(), "App has been reset", Toast.LENGTH_LONG).show();
+                        // Restart once the reset has finished, so the app starts from onboarding
+                        settingsViewModel.factoryReset(() -> {
+                            startActivity(new Intent(getActivity(), MainActivity.class));
+                            Toast.makeText(getContext(), "App has been reset", Toast.LENGTH_LONG).show();
+                        });
                     } else {
                         Log.d("SettingsFragment", "User canceled app reset");
                     }
@@ -0,0 +1,85 @@
+package com.example.budgetbuddy.ui.fragments
+
+import android.os.Bundle
+import android.util.Log
+import android.view.View
+import android.widget.TextView
+import androidx.fragment.app.Fragment
+import androidx.fragment.app.viewModels
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.lifecycleScope
+import androidx.lifecycle.repeatOnLifecycle
+import androidx.paging.LoadState
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import com.example.budgetbuddy.R
+import com.example.budgetbuddy.adapters.EditRecyclerViewAdapter
+import com.example.budgetbuddy.adapters.SharedRowPool
+import com.example.budgetbuddy.ui.viewmodel.TransactionViewModel
+import dagger.hilt.android.AndroidEntryPoint
+import kotlinx.coroutines.flow.collectLatest
+import kotlinx.coroutines.launch
+
+/**
+ * The fragment subclass for the Transactions section of the app.
+ * Connects to fragment_transactions.xml to provide layout.
+ * Displays a paged RecyclerView with deletable transaction history
+ */
+@AndroidEntryPoint
+class TransactionsFragment : Fragment(R.layout.fragment_transactions)
+{
+    // Get the ViewModel
+    private val viewModel by viewModels<TransactionViewModel>()
+
+
+    override fun onViewCreated(view: View, savedInstanceState: Bundle?)
+    {
+        Log.d("TransactionsFragment", "Loaded TransactionsFragment")
+        super.onViewCreated(view, savedInstanceState)
+
+        val txtTitle = view.findViewById<TextView>(R.id.txtTitle)
+        val emptyView = view.findViewById<View>(R.id.transactionEmptyState)  // Empty layout for no-transaction state
+        val rvFullHistory = view.findViewById<RecyclerView>(R.id.rvFullHistory)
+
+        // Set up the paged adapter, deletions are passed to the ViewModel.
+        // Rows come from the activity's shared pool, pre-inflated while the app was idle
+        val rowPool = (activity as? SharedRowPool.Owner)?.sharedRowPool
+        val adapter = EditRecyclerViewAdapter(viewModel::deleteTransaction, R.layout.editable_transaction_item, rowPool)
+        rvFullHistory.layoutManager = LinearLayoutManager(context)
+        rowPool?.attach(rvFullHistory)
+        rvFullHistory.adapter = adapter
+
+        // Scroll back to the top of the RecyclerView when a new transaction is added at the top
+        adapter.registerAdapterDataObserver(object : RecyclerView.AdapterDataObserver()
+        {
+            override fun onItemRangeInserted(positionStart: Int, itemCount: Int)
+            {
+                if (positionStart == 0)
+                {
+                    rvFullHistory.scrollToPosition(0)
+                }
+            }
+        })
+
+        // Hide the list and show the empty screen once a refresh has finished with no rows
+        adapter.addLoadStateListener { loadStates ->
+            val listEmpty = loadStates.refresh is LoadState.NotLoading && adapter.itemCount == 0
+
+            rvFullHistory.visibility = if (listEmpty) View.GONE else View.VISIBLE
+            txtTitle.visibility = if (listEmpty) View.GONE else View.VISIBLE
+            emptyView.visibility = if (listEmpty) View.VISIBLE else View.GONE
+        }
+
+        // Submit each new page of transactions to the adapter
+        viewLifecycleOwner.lifecycleScope.launch {
+            viewLifecycleOwner.repeatOnLifecycle(Lifecycle.State.STARTED)
+            {
+                // collectLatest cancels a pending submission when a newer page arrives
+                viewModel.pagedTransactions.collectLatest { pagingData ->
+                    Log.d("TransactionsFragment", "Updating Transaction List")
+                    adapter.submitData(pagingData)
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import androidx.lifecycle.LiveData;
 
 import com.example.budgetbuddy.domain.entities.Category;
 import com.example.budgetbuddy.domain.entities.Transaction;
+import com.example.budgetbuddy.domain.entities.TransactionAmount;
 import com.example.budgetbuddy.enums.RepeatDuration;
 import com.example.budgetbuddy.enums.TransactionType;
 import com.example.budgetbuddy.enums.ValidationState;
@@ -55,20 +56,11 @@ public class AddViewModel extends AndroidViewModel
             return ValidationState.EMPTY;
         }
 
-        double amount;
-        if (!InputValidator.validateCurrencyInput(stringAmount))
+        // Parse the string amount straight into minor units (pence)
+        Long amount = TransactionAmount.parseMinorUnits(stringAmount);
+        if (amount == null)
         {
             return ValidationState.INVALID_AMOUNT;
-        } else
-        {
-            try
-            {
-                // Parse the string amount into a double
-                amount = Double.parseDouble(stringAmount);
-            } catch (NumberFormatException e)
-            {
-                return ValidationState.INVALID_AMOUNT;
-            }
         }
 
         // Parse the date and time into a Calendar
@@ -85,7 +77,7 @@ public class AddViewModel extends AndroidViewModel
         }
 
         // Pass the transaction data to the Repository
-        dataRepository.insertTransaction(new Transaction(amount, type, calendar, categoryID, repeatDuration));
+        dataRepository.insertTransaction(new Transaction(amount, type, calendar.getTimeInMillis(), categoryID, repeatDuration));
         return ValidationState.NONE;
     }
 
@@ -0,0 +1,59 @@
+package com.example.budgetbuddy.ui.viewmodel
+
+import androidx.lifecycle.LiveData
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.asLiveData
+import androidx.lifecycle.viewModelScope
+import com.example.budgetbuddy.data.PreferenceRepository
+import com.example.budgetbuddy.domain.entities.TransactionAmount
+import com.example.budgetbuddy.enums.ValidationState
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+
+/**
+ * ViewModel for the budget setting in SettingsFragment.
+ * Reads and writes the budget through the PreferenceRepository, the same
+ * DataStore value the overview and the BudgetService read, so an edit
+ * reaches the overview straight away.
+ */
+@HiltViewModel
+class BudgetViewModel @Inject constructor(
+    private val prefsRepo: PreferenceRepository
+) : ViewModel()
+{
+    /**
+     * The current budget, updated whenever it changes
+     */
+    val budget: LiveData<Double> = prefsRepo.budget.asLiveData()
+
+    /**
+     * Saves a new budget in a background thread. [newBudget] must already
+     * have passed validateBudget
+     */
+    fun updateBudget(newBudget: String)
+    {
+        viewModelScope.launch {
+            prefsRepo.updateBudget(newBudget.trim().toDouble())
+        }
+    }
+
+    /**
+     * Validates a newly-set budget. Returns ValidationState.NONE if it is
+     * valid, otherwise INVALID_AMOUNT or EMPTY
+     */
+    fun validateBudget(budget: Any?): ValidationState
+    {
+        // Cast to string
+        val input = (budget as? String)?.trim() ?: return ValidationState.INVALID_AMOUNT
+
+        // Check if empty
+        if (input.isEmpty())
+        {
+            return ValidationState.EMPTY
+        }
+
+        // Validate budget amount, same format as a transaction amount
+        return if (TransactionAmount.parseMinorUnits(input) != null) ValidationState.NONE else ValidationState.INVALID_AMOUNT
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.budgetbuddy.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.example.budgetbuddy.data.TransactionRepository
+import com.example.budgetbuddy.domain.entities.ProjectedEntry
+import com.example.budgetbuddy.domain.services.BudgetService
+import com.example.budgetbuddy.domain.services.ProjectionService
+import com.example.budgetbuddy.ui.OverviewUiState
+import com.example.budgetbuddy.ui.TransactionRowModel
+import com.example.budgetbuddy.utility.PieChartHandler
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.flatMapLatest
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.flow.stateIn
+import javax.inject.Inject
+
+/**
+ * ViewModel for interacting with OverviewFragment.
+ * Abstracts business logic from fragment, interfaces with the TransactionRepository,
+ * the BudgetService and the ProjectionService.
+ */
+@HiltViewModel
+class OverviewViewModel @Inject constructor(
+    transactionRepo: TransactionRepository,
+    budgetService: BudgetService,
+    projectionService: ProjectionService
+) : ViewModel()
+{
+    /*
+    Combines the current period's budget, the last few transactions and the per-category
+    totals into one OverviewUiState. A new state is built whenever any of them change.
+    The remaining budget only counts the active budget period's transactions, and the
+    category totals come from the monthly_summary table, so no query here reads the full history.
+
+    The pie chart data and the row formatting run on the Default dispatcher,
+    so the fragment only binds the finished state on the main thread.
+    The upstream flows are kept alive for 5 seconds after the last collector leaves,
+    so a configuration change does not restart the database queries.
+     */
+    val uiState: StateFlow<OverviewUiState> =
+        combine(
+            budgetService.currentPeriodBudget,
+            transactionRepo.getRecentWithCategory(RECENT_TRANSACTION_COUNT),
+            transactionRepo.getCategoryTotals()
+        ) { periodBudget, recentTransactions, categoryTotals ->
+            OverviewUiState(
+                totalBudget = periodBudget.totalBudget,
+                budgetRemaining = periodBudget.budgetRemaining,
+                recentTransactions = recentTransactions.map { TransactionRowModel.from(it) },
+                pieData = PieChartHandler.getPieData(categoryTotals),
+                isEmpty = recentTransactions.isEmpty()
+            )
+        }
+            .flowOn(Dispatchers.Default)
+            .stateIn(viewModelScope, SharingStarted.WhileSubscribed(STOP_TIMEOUT_MILLIS), OverviewUiState())
+
+    /*
+    The current budget period's transactions, including the upcoming occurrences of
+    recurring transactions, with the running balance after each. The balance starts
+    from the same period budget as uiState, so it agrees with the budget remaining.
+    Only a new period or a new budget restarts the projection; changes to the
+    transactions or the rules are picked up by the projection itself.
+     */
+    @OptIn(ExperimentalCoroutinesApi::class)
+    val projection: StateFlow<List<ProjectedEntry>> =
+        budgetService.currentPeriodBudget
+            .distinctUntilChanged { old, new -> old.period == new.period && old.totalBudget == new.totalBudget }
+            .flatMapLatest { periodBudget -> projectionService.project(periodBudget) }
+            .stateIn(viewModelScope, SharingStarted.WhileSubscribed(STOP_TIMEOUT_MILLIS), emptyList())
+
+    companion object
+    {
+        // Number of rows shown in the overview's "Recent transactions" list
+        private const val RECENT_TRANSACTION_COUNT = 10
+
+        // How long to keep the upstream flows running after the UI stops collecting
+        private const val STOP_TIMEOUT_MILLIS = 5_000L
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.budgetbuddy.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.example.budgetbuddy.domain.services.MaintenanceService
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+
+/**
+ * Used to perform factory reset operations from settings.
+ * Delegates to the MaintenanceService, which clears the database and the
+ * DataStore preferences the rest of the app reads.
+ */
+@HiltViewModel
+class SettingsViewModel @Inject constructor(
+    private val maintenanceService: MaintenanceService
+) : ViewModel()
+{
+    /**
+     * Resets the app to its factory defaults in a background thread, then
+     * runs [onComplete] on the main thread
+     */
+    fun factoryReset(onComplete: Runnable)
+    {
+        viewModelScope.launch {
+            maintenanceService.factoryReset()
+            onComplete.run()
+        }
+    }
+}
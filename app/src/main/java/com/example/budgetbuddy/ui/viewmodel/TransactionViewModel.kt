@@ -0,0 +1,122 @@
+package com.example.budgetbuddy.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import androidx.paging.PagingData
+import androidx.paging.cachedIn
+import androidx.paging.map
+import com.example.budgetbuddy.data.TransactionRepository
+import com.example.budgetbuddy.domain.entities.TransactionFilter
+import com.example.budgetbuddy.domain.entities.TransactionWithCategory
+import com.example.budgetbuddy.ui.TransactionRowModel
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.debounce
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.drop
+import kotlinx.coroutines.flow.flatMapLatest
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.merge
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.update
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+
+/**
+ * ViewModel for interacting with the TransactionsFragment.
+ * Exposes the paged transaction history, narrowed by the current
+ * TransactionFilter or replaced by the results of a note search, and handles
+ * deletion via the TransactionRepository.
+ */
+@HiltViewModel
+class TransactionViewModel @Inject constructor(
+    private val transactionRepo: TransactionRepository
+) : ViewModel()
+{
+    // The filter currently applied to the history. Starts unfiltered
+    private val _filter = MutableStateFlow(TransactionFilter.NONE)
+    val filter: StateFlow<TransactionFilter> = _filter
+
+    // The note search currently applied. Blank shows the filtered history
+    private val _searchQuery = MutableStateFlow("")
+    val searchQuery: StateFlow<String> = _searchQuery
+
+    // The filter and trimmed search query, re-emitted whenever either changes
+    private val criteria = combine(_filter, _searchQuery) { filter, query -> filter to query.trim() }
+
+    /*
+    The first filter is used straight away; later changes to the filter or the
+    search query are debounced, so typing an amount, a search word or dragging
+    a date range only queries the database once the user pauses. flatMapLatest
+    drops the previous Pager as soon as a new filter or query arrives.
+
+    While a search query is set the list shows the full-text search results,
+    best match first, instead of the filtered history.
+
+    Each loaded row is formatted into a TransactionRowModel as its page is loaded,
+    on the Pager's background thread, so the adapter only assigns strings.
+
+    cachedIn keeps the loaded pages in the viewModelScope, so a configuration
+    change (rotation, theme switch) re-binds the pages already in memory instead
+    of querying the database again
+     */
+    @OptIn(FlowPreview::class, ExperimentalCoroutinesApi::class)
+    val pagedTransactions: Flow<PagingData<TransactionRowModel>> =
+        merge(criteria.take(1), criteria.drop(1).debounce(FILTER_DEBOUNCE_MILLIS))
+            .distinctUntilChanged()
+            .flatMapLatest { (filter, query) ->
+                if (query.isEmpty()) transactionRepo.getPagedWithCategory(filter)
+                else transactionRepo.searchWithCategory(query)
+            }
+            .map { pagingData -> pagingData.map { TransactionRowModel.from(it) } }
+            .cachedIn(viewModelScope)
+
+    /**
+     * Replaces the current filter
+     */
+    fun setFilter(filter: TransactionFilter)
+    {
+        _filter.value = filter
+    }
+
+    /**
+     * Applies [transform] to the current filter, e.g. to change one criterion
+     */
+    fun updateFilter(transform: (TransactionFilter) -> TransactionFilter)
+    {
+        _filter.update(transform)
+    }
+
+    /**
+     * Searches the transaction notes for [query]. A blank query returns to
+     * the filtered history
+     */
+    fun setSearchQuery(query: String)
+    {
+        _searchQuery.value = query
+    }
+
+    /**
+     * Deletes a transaction in a background thread. Room invalidates the
+     * current PagingSource, so the list refreshes without the deleted row.
+     * If the transaction started a recurring rule, the database deletes the
+     * rule with it, so no more occurrences are inserted
+     */
+    fun deleteTransaction(transactionWithCategory: TransactionWithCategory)
+    {
+        viewModelScope.launch {
+            transactionRepo.deleteTransaction(transactionWithCategory.transaction)
+        }
+    }
+
+    companion object
+    {
+        // How long the filter and search query must stay unchanged before the query is re-run
+        private const val FILTER_DEBOUNCE_MILLIS = 300L
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.budgetbuddy.utility;
+
+import androidx.annotation.NonNull;
+
+import com.example.budgetbuddy.domain.entities.ProjectedEntry;
+import com.example.budgetbuddy.domain.entities.RecurringRule;
+import com.example.budgetbuddy.domain.entities.Transaction;
+import com.example.budgetbuddy.enums.TransactionType;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Utility class projecting the balance over a window of time without inserting future transactions.
+ * Real transactions in the window are merged in date order with the occurrences of every recurring
+ * rule, each expanded lazily by a <code>RecurrenceIterator</code>. A priority queue holds one cursor
+ * per rule, so the merge costs O(n log r) for n entries and r rules, and memory is only the entries
+ * in the window, never the rule's whole history.
+ */
+public final class CashFlowProjector
+{
+    // Final class, no instantiation
+    private CashFlowProjector()
+    {
+    }
+
+
+    /**
+     * Merges real and projected transactions between <code>fromMillis</code> (inclusive) and
+     * <code>toMillis</code> (exclusive), keeping a running balance.
+     * Occurrences at or before a rule's watermark already exist as real transactions, so each rule is
+     * only expanded after its watermark. A real transaction and an occurrence at the same time are
+     * ordered real first.
+     *
+     * @param openingBalance the balance at <code>fromMillis</code>, in minor units
+     * @param transactions   the real transactions in the window, in ascending date order
+     * @param rules          the recurring rules to expand
+     * @param fromMillis     the start of the window, epoch milliseconds
+     * @param toMillis       the end of the window, epoch milliseconds
+     * @param zone           the time zone the rules repeat in
+     * @return a new <code>List</code> of <code>ProjectedEntry</code> objects in ascending date order
+     */
+    @NonNull
+    public static List<ProjectedEntry> project(long openingBalance, @NonNull List<Transaction> transactions,
+                                               @NonNull List<RecurringRule> rules, long fromMillis, long toMillis,
+                                               @NonNull ZoneId zone)
+    {
+        // One cursor per rule with occurrences in the window, ordered by its next occurrence
+        PriorityQueue<RuleCursor> cursors = new PriorityQueue<>(Math.max(1, rules.size()),
+                (a, b) -> Long.compare(a.occurrences.peek(), b.occurrences.peek()));
+        for (RecurringRule rule : rules)
+        {
+            long ruleFrom = Math.max(fromMillis, rule.getLastMaterialized() + 1);
+            RecurrenceIterator occurrences = new RecurrenceIterator(rule.getStartDateTime(), rule.getRepeatDuration(), ruleFrom, toMillis, zone);
+            if (occurrences.hasNext())
+            {
+                cursors.add(new RuleCursor(rule, occurrences));
+            }
+        }
+
+        List<ProjectedEntry> entries = new ArrayList<>(transactions.size() + cursors.size());
+        Iterator<Transaction> real = transactions.iterator();
+        Transaction nextReal = real.hasNext() ? real.next() : null;
+        long balance = openingBalance;
+
+        while (nextReal != null || !cursors.isEmpty())
+        {
+            Transaction transaction;
+            boolean projected;
+
+            if (nextReal != null && (cursors.isEmpty() || nextReal.getDateTime() <= cursors.peek().occurrences.peek()))
+            {
+                transaction = nextReal;
+                projected = false;
+                nextReal = real.hasNext() ? real.next() : null;
+            } else
+            {
+                // Take the earliest occurrence, then requeue the rule at its next one
+                RuleCursor cursor = cursors.poll();
+                transaction = cursor.rule.toTransaction(cursor.occurrences.nextLong());
+                projected = true;
+                if (cursor.occurrences.hasNext())
+                {
+                    cursors.add(cursor);
+                }
+            }
+
+            balance += transaction.getType() == TransactionType.INCOMING ? transaction.getAmount() : -transaction.getAmount();
+            entries.add(new ProjectedEntry(transaction, projected, balance));
+        }
+        return entries;
+    }
+
+
+    /**
+     * A rule and the iterator over its occurrences in the window
+     */
+    private static final class RuleCursor
+    {
+        private final RecurringRule rule;
+        private final RecurrenceIterator occurrences;
+
+        private RuleCursor(@NonNull RecurringRule rule, @NonNull RecurrenceIterator occurrences)
+        {
+            this.rule = rule;
+            this.occurrences = occurrences;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.budgetbuddy.utility;
+
+import android.content.Context;
+import android.util.LongSparseArray;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.budgetbuddy.domain.entities.Category;
+import com.google.android.material.chip.Chip;
+import com.google.android.material.chip.ChipGroup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the category <code>Chip</code>s of a <code>ChipGroup</code> across refreshes, keyed by category ID.
+ * <code>update</code> diffs the new category list against the chips already shown: new categories get a chip,
+ * removed categories lose theirs, edited categories are re-bound, and unchanged chips are left alone.
+ * The "add category" chip is always kept last.
+ */
+public final class CategoryChipPool
+{
+    private final ChipGroup chipGroup;
+    private final Chip addChip;
+    private final LongSparseArray<Chip> chips = new LongSparseArray<>();            // Category ID -> Chip
+    private final LongSparseArray<Category> boundCategories = new LongSparseArray<>(); // Category ID -> Category shown
+
+
+    /**
+     * Constructs a new <code>CategoryChipPool</code> for <code>chipGroup</code>
+     *
+     * @param chipGroup the <code>ChipGroup</code> to manage
+     * @param addChip   the "add category" chip, shown after the category chips
+     */
+    public CategoryChipPool(@NonNull ChipGroup chipGroup, @NonNull Chip addChip)
+    {
+        this.chipGroup = chipGroup;
+        this.addChip = addChip;
+    }
+
+
+    /**
+     * Brings the <code>ChipGroup</code> in line with <code>categories</code>, touching only the chips that changed
+     *
+     * @param context    the context to create and style chips with
+     * @param categories the categories to show, in display order
+     */
+    public void update(@NonNull Context context, @NonNull List<Category> categories)
+    {
+        // Remove chips for categories that no longer exist
+        Set<Long> currentIDs = new HashSet<>(categories.size() * 2);
+        for (Category category : categories)
+        {
+            currentIDs.add(category.getId());
+        }
+        for (int i = chips.size() - 1; i >= 0; i--)
+        {
+            if (!currentIDs.contains(chips.keyAt(i)))
+            {
+                chipGroup.removeView(chips.valueAt(i));
+                boundCategories.remove(chips.keyAt(i));
+                chips.removeAt(i);
+            }
+        }
+
+        // Add new chips, re-bind edited ones, and move any that are out of place
+        for (int position = 0; position < categories.size(); position++)
+        {
+            Category category = categories.get(position);
+            Chip chip = chips.get(category.getId());
+
+            if (chip == null)
+            {
+                chip = ChipHandler.createChip(context, category);
+                chip.setId(View.generateViewId());      // Needed for ChipGroup selection
+                chips.put(category.getId(), chip);
+            } else if (!category.equals(boundCategories.get(category.getId())))
+            {
+                ChipHandler.bindChip(context, chip, category);  // Name or colour changed
+            }
+            boundCategories.put(category.getId(), category);
+
+            placeAt(chip, position);
+        }
+
+        placeAt(addChip, categories.size());
+    }
+
+    /**
+     * Gets the chip showing a category
+     *
+     * @param categoryID the ID of the category
+     * @return the <code>Chip</code>, or null if the category is not shown
+     */
+    @Nullable
+    public Chip getChip(long categoryID)
+    {
+        return chips.get(categoryID);
+    }
+
+
+    /**
+     * Moves <code>chip</code> to <code>position</code> in the group, if it is not already there
+     */
+    private void placeAt(@NonNull Chip chip, int position)
+    {
+        if (chipGroup.getChildAt(position) == chip)
+        {
+            return;
+        }
+        if (chip.getParent() == chipGroup)
+        {
+            chipGroup.removeView(chip);
+        }
+        chipGroup.addView(chip, position);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.budgetbuddy.utility;
+
+import androidx.annotation.NonNull;
+
+import com.example.budgetbuddy.domain.entities.Category;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sums amounts per category, keyed by the primitive category ID.
+ * An open-addressing hash table over parallel arrays: adding an amount never hashes the
+ * <code>Category</code> name or boxes a <code>Long</code>, and allocates nothing unless the table grows.
+ * The <code>Category</code> objects are only turned into map keys once, in <code>toMap</code>.
+ */
+final class CategoryTotalsAccumulator
+{
+    private static final int DEFAULT_CAPACITY = 16;     // Must be a power of two
+
+    private long[] keys;
+    private long[] totals;
+    private Category[] categories;  // Null marks an empty slot, so any ID (including 0) is a valid key
+    private int size;
+
+
+    /**
+     * Constructs an empty <code>CategoryTotalsAccumulator</code>
+     */
+    CategoryTotalsAccumulator()
+    {
+        keys = new long[DEFAULT_CAPACITY];
+        totals = new long[DEFAULT_CAPACITY];
+        categories = new Category[DEFAULT_CAPACITY];
+    }
+
+
+    /**
+     * Adds <code>amount</code> to the total for <code>categoryID</code>.
+     * The first <code>Category</code> seen for an ID is the one kept for the result.
+     *
+     * @param categoryID the ID of the category
+     * @param category   the <code>Category</code> object for the ID
+     * @param amount     the amount in minor units
+     */
+    void add(long categoryID, @NonNull Category category, long amount)
+    {
+        int mask = keys.length - 1;
+        int slot = hash(categoryID) & mask;
+
+        // Linear probing: walk forward until the key or an empty slot is found
+        while (categories[slot] != null)
+        {
+            if (keys[slot] == categoryID)
+            {
+                totals[slot] += amount;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = categoryID;
+        totals[slot] = amount;
+        categories[slot] = category;
+        size++;
+
+        // Keep the load factor at or below 0.5 so probe runs stay short
+        if (size * 2 > keys.length)
+        {
+            grow();
+        }
+    }
+
+    /**
+     * @return the number of distinct categories added
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Resolves the totals into a <code>Map</code> of <code>Category</code> and <code>Long</code> objects
+     *
+     * @return a new <code>Map</code> with one entry per category
+     */
+    @NonNull
+    Map<Category, Long> toMap()
+    {
+        Map<Category, Long> result = new HashMap<>(size * 2);
+        for (int i = 0; i < keys.length; i++)
+        {
+            if (categories[i] != null)
+            {
+                result.put(categories[i], totals[i]);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Doubles the table size and re-inserts every entry
+     */
+    private void grow()
+    {
+        long[] oldKeys = keys;
+        long[] oldTotals = totals;
+        Category[] oldCategories = categories;
+
+        keys = new long[oldKeys.length * 2];
+        totals = new long[oldKeys.length * 2];
+        categories = new Category[oldKeys.length * 2];
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldCategories[i] != null)
+            {
+                int slot = hash(oldKeys[i]) & mask;
+                while (categories[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                totals[slot] = oldTotals[i];
+                categories[slot] = oldCategories[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of sequential IDs across the table (Fibonacci hashing)
+     */
+    private static int hash(long categoryID)
+    {
+        int h = (int) (categoryID ^ (categoryID >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -28,22 +28,35 @@ public final class ChipHandler
     public static Chip createChip(@NonNull Context context, @NonNull Category category)
     {
         Chip chip = new Chip(context, null, R.style.Widget_BudgetTracker_ChipStyle);
+        chip.setCheckable(true);
+        chip.setClickable(true);
 
+        bindChip(context, chip, category);
+        return chip;
+    }
+
+
+    /**
+     * Sets the text, colours and tag of an existing <code>Chip</code> from <code>Category</code> data.
+     * Lets a pooled chip be re-used for an edited category without being re-created
+     * @param context the application context
+     * @param chip the <code>Chip</code> to update
+     * @param category the <code>Category</code> object to take data from
+     */
+    public static void bindChip(@NonNull Context context, @NonNull Chip chip, @NonNull Category category)
+    {
         // Set the name of the chip to the category name
         chip.setText(category.getName());
-        chip.setCheckable(true);
-        chip.setClickable(true);
 
         // Set the background color of the chip top the category's colour
         chip.setChipBackgroundColor(ColorHandler.resolveColorID(context, category.getColorID()));
 
         // Set the chip text colour to adapt to the chip background colour
-        chip.setTextColor(ColorHandler.resolveForegroundColor(context, ColorHandler.getColorARGB(context, category.getColorID())));
+        chip.setTextColor(ColorHandler.resolveForegroundColorID(context, category.getColorID()));
 
         // Set the "tag" parameter of the Chip to the category ID
         // This facilitates the category selection logic
-        chip.setTag(category.getCategoryID());
-        return chip;
+        chip.setTag(category.getId());
     }
 
 
@@ -1,11 +1,15 @@
 package com.example.budgetbuddy.utility;
 
+import android.content.ComponentCallbacks;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
 import android.graphics.Color;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffColorFilter;
 import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
 import android.widget.TextView;
 
 import androidx.annotation.ColorInt;
@@ -19,10 +23,23 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Utility class for handling color methods
+ * Utility class for handling color methods.
+ * Resolved colours are cached process-wide by resource ID, so binding a row or chip does not
+ * go back to the <code>Resources</code> for a colour it has already resolved. The cache is keyed
+ * on the night mode the colours were resolved in and cleared on any configuration change.
+ * The cache is not synchronised; call these methods from the main thread.
  */
 public final class ColorHandler
 {
+    private static final int NO_NIGHT_MODE = -1;
+
+    private static final SparseIntArray argbCache = new SparseIntArray();                   // colorID -> ARGB
+    private static final SparseArray<ColorStateList> stateListCache = new SparseArray<>();  // colorID -> ColorStateList
+    private static final SparseIntArray foregroundCache = new SparseIntArray();             // background ARGB -> foreground ARGB
+
+    private static int cachedNightMode = NO_NIGHT_MODE;
+    private static boolean callbacksRegistered = false;
+
     // Final class- no instantiation
     private ColorHandler()
     {
@@ -30,7 +47,56 @@ public final class ColorHandler
 
 
     /**
-     * Converts a color from colors.xml to a usable <code>ColorStateList</code>
+     * Clears every cached colour. Called automatically on configuration and night-mode changes
+     */
+    public static void invalidateCache()
+    {
+        argbCache.clear();
+        stateListCache.clear();
+        foregroundCache.clear();
+        cachedNightMode = NO_NIGHT_MODE;
+    }
+
+    /**
+     * Clears the cache if <code>context</code> is in a different night mode from the cached colours
+     * (e.g. after <code>AppCompatDelegate.setDefaultNightMode</code>, which only changes the activity's
+     * configuration), and registers for application configuration changes on first use
+     *
+     * @param context the context the colours are being resolved against
+     */
+    private static void validateCache(@NonNull Context context)
+    {
+        if (!callbacksRegistered)
+        {
+            callbacksRegistered = true;
+            context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks()
+            {
+                @Override
+                public void onConfigurationChanged(@NonNull Configuration newConfig)
+                {
+                    invalidateCache();
+                }
+
+                @Override
+                public void onLowMemory()
+                {
+                    // The cache holds a few entries per colour, nothing to trim
+                }
+            });
+        }
+
+        int nightMode = context.getResources().getConfiguration().uiMode & Configuration.UI_MODE_NIGHT_MASK;
+        if (nightMode != cachedNightMode)
+        {
+            invalidateCache();
+            cachedNightMode = nightMode;
+        }
+    }
+
+
+    /**
+     * Converts a color from colors.xml to a usable <code>ColorStateList</code>.
+     * The same instance is returned for each colour until the cache is invalidated
      *
      * @param context the application context
      * @param colorID an id of a color in colors.xml
@@ -39,7 +105,14 @@ public final class ColorHandler
     @NonNull
     public static ColorStateList resolveColorID(Context context, int colorID)
     {
-        return ColorStateList.valueOf(getColorARGB(context, colorID));
+        validateCache(context);
+        ColorStateList stateList = stateListCache.get(colorID);
+        if (stateList == null)
+        {
+            stateList = ColorStateList.valueOf(getColorARGB(context, colorID));
+            stateListCache.put(colorID, stateList);
+        }
+        return stateList;
     }
 
     /**
@@ -51,7 +124,16 @@ public final class ColorHandler
      */
     public static int getColorARGB(Context context, int colorID)
     {
-        return ContextCompat.getColor(context, colorID);
+        validateCache(context);
+        int index = argbCache.indexOfKey(colorID);
+        if (index >= 0)
+        {
+            return argbCache.valueAt(index);
+        }
+
+        int argb = ContextCompat.getColor(context, colorID);
+        argbCache.put(colorID, argb);
+        return argb;
     }
 
     /**
@@ -94,18 +176,33 @@ public final class ColorHandler
     @ColorInt
     public static int resolveForegroundColor(@NonNull Context context, @ColorInt int backgroundColour)
     {
+        validateCache(context);
+        int index = foregroundCache.indexOfKey(backgroundColour);
+        if (index >= 0)
+        {
+            return foregroundCache.valueAt(index);
+        }
+
         // Calculate the luminance of the background colour
         double luminance = ColorUtils.calculateLuminance(backgroundColour);
 
         // If luminance is greater than 0.5, return dark text
-        if (luminance > 0.5)
-        {
-            return getColorARGB(context, R.color.text_fixed_dark);
-        } else
-        {
-            return Color.WHITE;
-        }
+        int foreground = luminance > 0.5 ? getColorARGB(context, R.color.text_fixed_dark) : Color.WHITE;
+        foregroundCache.put(backgroundColour, foreground);
+        return foreground;
+    }
 
+    /**
+     * Returns black or white text for a background color in colors.xml
+     *
+     * @param context the application context
+     * @param colorID an id of a color in colors.xml
+     * @return a color <code>ARGB</code> of white if luminance is low, black otherwise
+     */
+    @ColorInt
+    public static int resolveForegroundColorID(@NonNull Context context, int colorID)
+    {
+        return resolveForegroundColor(context, getColorARGB(context, colorID));
     }
 
     /**
@@ -18,7 +18,7 @@ public class Converters
      */
     @NonNull
     public static String calendarToHourMinute(@NonNull Calendar calendar) {
-        return String.format(Locale.getDefault(), "%02d:%02d", calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE));
+        return TextFormatter.get().formatHourMinute(calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE));
     }
 
     /**
@@ -28,12 +28,13 @@ public class Converters
      */
     @NonNull
     public static String calendarToDayMonthYear(@NonNull Calendar calendar) {
-        return String.format(Locale.getDefault(), "%02d/%02d/%d", calendar.get(Calendar.DAY_OF_MONTH), calendar.get(Calendar.MONTH) + 1, calendar.get(Calendar.YEAR));
-
+        return TextFormatter.get().formatDayMonthYear(calendar.get(Calendar.DAY_OF_MONTH), calendar.get(Calendar.MONTH) + 1, calendar.get(Calendar.YEAR));
     }
 
     /**
      * Expresses a double as a currency value (in the format £00.00)
+     * Kept on <code>String.format</code> for its exact double rounding; amounts are <code>long</code> minor
+     * units on every hot path, so use <code>minorUnitsToCurrencyString</code> there
      * @param value a <code>double</code> value
      * @return a formatted <code>String</code>
      */
@@ -41,4 +42,25 @@ public class Converters
     public static String doubleToCurrencyString(double value) {
         return String.format(Locale.getDefault(), "£%.2f", value);
     }
+
+    /**
+     * Expresses an amount in minor units (pence) as a currency value (in the format £00.00).
+     * Uses integer division, so the output is exact for any <code>long</code>
+     * @param minorUnits a <code>long</code> amount in pence
+     * @return a formatted <code>String</code>
+     */
+    @NonNull
+    public static String minorUnitsToCurrencyString(long minorUnits) {
+        return TextFormatter.get().formatMinorUnits(minorUnits);
+    }
+
+    /**
+     * Converts a <code>double</code> currency value (e.g. a budget from preferences) to minor units,
+     * rounding to the nearest penny
+     * @param value a <code>double</code> value
+     * @return the value in pence
+     */
+    public static long doubleToMinorUnits(double value) {
+        return Math.round(value * 100);
+    }
 }
@@ -0,0 +1,205 @@
+package com.example.budgetbuddy.utility;
+
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.view.animation.DecelerateInterpolator;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.budgetbuddy.domain.entities.PieChartData;
+import com.example.budgetbuddy.domain.entities.PieChartSlice;
+import com.github.mikephil.charting.charts.PieChart;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.formatter.PercentFormatter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds <code>PieChartData</code> to a <code>PieChart</code>, reusing one <code>PieDataSet</code> and
+ * <code>PieData</code> for the life of the chart.
+ * Unchanged data is skipped without a redraw. When only slice amounts change, the entries are updated in
+ * place and only the slices whose values moved are animated; a change in the set of slices rebuilds the
+ * entries without animation.
+ * Must be used from the main thread.
+ */
+public final class PieChartBinder
+{
+    private static final long ANIMATION_DURATION_MS = 400;
+
+    private final PieChart pieChart;
+    private final PieDataSet dataSet;
+    private final PieData pieData;
+
+    @Nullable
+    private PieChartData boundData;         // Last data bound, for the equality check
+    @Nullable
+    private ValueAnimator sliceAnimator;
+
+
+    /**
+     * Styles <code>pieChart</code> and attaches the reusable dataset to it
+     *
+     * @param pieChart the <code>PieChart</code> to bind to
+     */
+    public PieChartBinder(@NonNull PieChart pieChart)
+    {
+        this.pieChart = pieChart;
+        PieChartHandler.setupPieChart(pieChart);
+
+        // Create and style the dataset once
+        dataSet = new PieDataSet(new ArrayList<>(), "dataset");
+        dataSet.setValueFormatter(new PercentFormatter(pieChart));
+        dataSet.setSliceSpace(2f);
+        dataSet.setDrawValues(false);   // Remove the labels on the slices themselves
+
+        pieData = new PieData(dataSet);
+        pieChart.setData(pieData);
+    }
+
+
+    /**
+     * Binds <code>data</code> to the chart
+     *
+     * @param context the context to resolve slice colours with
+     * @param data    the <code>PieChartData</code> built from the category totals
+     * @return true if the chart changed, false if <code>data</code> equals the data already bound
+     */
+    public boolean bind(@NonNull Context context, @NonNull PieChartData data)
+    {
+        // Skip everything if the aggregated slices have not changed
+        if (data.equals(boundData))
+        {
+            return false;
+        }
+
+        List<PieChartSlice> oldSlices = boundData == null ? null : boundData.getSlices();
+        List<PieChartSlice> newSlices = data.getSlices();
+        boundData = data;
+
+        if (oldSlices != null && sameLabelsAndColours(oldSlices, newSlices))
+        {
+            animateChangedSlices(newSlices);
+        } else
+        {
+            rebuildEntries(context, newSlices);
+        }
+        return true;
+    }
+
+    /**
+     * Cancels any running slice animation. Call when the chart's view is destroyed
+     */
+    public void cancelAnimation()
+    {
+        if (sliceAnimator != null)
+        {
+            sliceAnimator.cancel();
+            sliceAnimator = null;
+        }
+    }
+
+
+    /**
+     * Replaces the dataset's entries and colours, then redraws once
+     */
+    private void rebuildEntries(@NonNull Context context, @NonNull List<PieChartSlice> slices)
+    {
+        cancelAnimation();
+
+        List<PieEntry> entries = new ArrayList<>(slices.size());
+        List<Integer> colours = new ArrayList<>(slices.size());
+        for (PieChartSlice slice : slices)
+        {
+            entries.add(new PieEntry((float) slice.getAmount(), slice.getLabel()));
+            colours.add(ColorHandler.getColorARGB(context, slice.getColorID()));
+        }
+        dataSet.setValues(entries);
+        dataSet.setColors(colours);
+
+        redraw();
+    }
+
+    /**
+     * Animates the entries whose amounts changed from their current value to the new one.
+     * Entries with unchanged amounts are not touched
+     */
+    private void animateChangedSlices(@NonNull List<PieChartSlice> slices)
+    {
+        cancelAnimation();     // Continue from wherever a running animation got to
+
+        List<PieEntry> entries = dataSet.getValues();
+        int changedCount = 0;
+        int[] changedIndices = new int[slices.size()];
+        float[] from = new float[slices.size()];
+        float[] to = new float[slices.size()];
+
+        for (int i = 0; i < slices.size(); i++)
+        {
+            float target = (float) slices.get(i).getAmount();
+            float current = entries.get(i).getY();
+            if (current != target)
+            {
+                changedIndices[changedCount] = i;
+                from[changedCount] = current;
+                to[changedCount] = target;
+                changedCount++;
+            }
+        }
+
+        if (changedCount == 0)
+        {
+            return;     // Only legend text changed (e.g. rounding of a percentage)
+        }
+
+        final int count = changedCount;
+        sliceAnimator = ValueAnimator.ofFloat(0f, 1f);
+        sliceAnimator.setDuration(ANIMATION_DURATION_MS);
+        sliceAnimator.setInterpolator(new DecelerateInterpolator());
+        sliceAnimator.addUpdateListener(animation ->
+        {
+            float fraction = (float) animation.getAnimatedValue();
+            for (int i = 0; i < count; i++)
+            {
+                entries.get(changedIndices[i]).setY(from[i] + (to[i] - from[i]) * fraction);
+            }
+            redraw();
+        });
+        sliceAnimator.start();
+    }
+
+    /**
+     * Recalculates the dataset bounds and redraws the chart
+     */
+    private void redraw()
+    {
+        dataSet.notifyDataSetChanged();
+        pieData.notifyDataChanged();
+        pieChart.notifyDataSetChanged();
+        pieChart.invalidate();
+    }
+
+    /**
+     * @return true if both lists have the same slices in the same order, ignoring amounts
+     */
+    private static boolean sameLabelsAndColours(@NonNull List<PieChartSlice> oldSlices, @NonNull List<PieChartSlice> newSlices)
+    {
+        if (oldSlices.size() != newSlices.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < oldSlices.size(); i++)
+        {
+            PieChartSlice oldSlice = oldSlices.get(i);
+            PieChartSlice newSlice = newSlices.get(i);
+            if (!oldSlice.getLabel().equals(newSlice.getLabel()) || oldSlice.getColorID() != newSlice.getColorID())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,22 +1,19 @@
 package com.example.budgetbuddy.utility;
 
 import android.graphics.Color;
-import androidx.core.util.Pair;
 
 import androidx.annotation.NonNull;
 
 import com.example.budgetbuddy.R;
 import com.example.budgetbuddy.domain.entities.Category;
+import com.example.budgetbuddy.domain.entities.CategoryTotal;
 import com.example.budgetbuddy.domain.entities.PieChartData;
 import com.example.budgetbuddy.domain.entities.PieChartLegendItem;
-import com.example.budgetbuddy.domain.entities.TransactionWithCategory;
+import com.example.budgetbuddy.domain.entities.PieChartSlice;
 import com.github.mikephil.charting.charts.PieChart;
-import com.github.mikephil.charting.data.PieDataSet;
-import com.github.mikephil.charting.data.PieEntry;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Utility class to handle MPAndroidChart PieCharts
@@ -53,84 +50,77 @@ public final class PieChartHandler
     /**
      * Overloads <code>getPieData</code>, abstracts topN setting from callers.
      *
-     * @param transactions a list of <code>TransactionWithCategory</code> objects
+     * @param categoryTotals a list of <code>CategoryTotal</code> objects, sorted largest first
      * @return a <code>PieChartData</code> object for use in a <code>PieChart</code>
      */
     @NonNull
-    public static PieChartData getPieData(List<TransactionWithCategory> transactions)
+    public static PieChartData getPieData(List<CategoryTotal> categoryTotals)
     {
-        return getPieData(transactions, MAX_CATEGORIES);
+        return getPieData(categoryTotals, MAX_CATEGORIES);
     }
 
 
     /**
-     * Converts a list of <code>TransactionWithCategory</code> objects into a <code>PieDataSet</code>
-     * Note - the resulting colorList in the PieChartData object will consist of unresolved Color IDs.
+     * Converts a list of pre-aggregated <code>CategoryTotal</code> rows into pie chart slices and legend items.
+     * The rows are summed and sorted by the database, so this only walks one row per category.
+     * Note - the slices in the PieChartData object hold unresolved Color IDs.
      * Resolve these by calling <code>ColorHandler.getColorARGB</code>. (Avoids context needed here)
      *
-     * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @param topN         the number beyond which categories will be grouped into "other"
+     * @param categoryTotals a list of <code>CategoryTotal</code> objects, sorted largest first
+     * @param topN           the number beyond which categories will be grouped into "other"
      * @return a <code>PieChartData</code> object for use in a <code>PieChart</code>
-     *
-     *
      */
     @NonNull
-    static PieChartData getPieData(List<TransactionWithCategory> transactions, int topN)
+    static PieChartData getPieData(List<CategoryTotal> categoryTotals, int topN)
     {
-        List<PieEntry> entries = new ArrayList<>();
+        List<PieChartSlice> slices = new ArrayList<>();
         List<PieChartLegendItem> legendItems = new ArrayList<>();
-        List<Integer> colorList = new ArrayList<>();
 
-        double totalSpend = TransactionUtils.getTotalSpend(transactions);
-
-        // If no transactions, return everything empty
-        if (transactions.isEmpty())
+        // If no spending, return everything empty
+        if (categoryTotals == null || categoryTotals.isEmpty())
         {
-            return new PieChartData(new PieDataSet(new ArrayList<>(), ""), colorList, new ArrayList<>());
+            return new PieChartData(slices, legendItems);
         }
 
-        // Get the topN pair
-        Pair<List<Map.Entry<Category, Double>>, Map.Entry<String, Double>> namedAndOther = TransactionUtils.getTopNCategoryTotals(transactions, topN);
-
-        // Null-check
-        if (namedAndOther.first == null || namedAndOther.second == null)
+        // Total spend is the sum of every category's total (exact, in minor units)
+        long totalSpend = 0L;
+        for (CategoryTotal categoryTotal : categoryTotals)
         {
-            // Break early if null
-            return new PieChartData(new PieDataSet(new ArrayList<>(), ""), new ArrayList<>(), new ArrayList<>());
+            totalSpend += categoryTotal.getTotal();
         }
-        // Extract named & other
-        List<Map.Entry<Category, Double>> namedCategories = namedAndOther.first;
-        Map.Entry<String, Double> otherCategory = namedAndOther.second;
 
+        int limit = Math.min(categoryTotals.size(), topN); // Math.min ensures no out-of-bounds
 
-        // Add named to dataset
-        for (Map.Entry<Category, Double> entry : namedCategories)
+        // Add named to dataset (rows are already sorted largest first)
+        for (int i = 0; i < limit; i++)
         {
-            Category category = entry.getKey();                                 // Extract key to category
-            Double amount = entry.getValue();                                   // Extract value to double
+            Category category = categoryTotals.get(i).getCategory();
+            long amount = categoryTotals.get(i).getTotal();
 
             // Add to dataset
-            entries.add(new PieEntry(amount.floatValue(), category.getName()));
-            colorList.add(category.getColorID());   // Needs to be resolved to ARGB later
+            slices.add(new PieChartSlice(category.getName(), amount, category.getColorID()));   // Colour needs to be resolved to ARGB later
 
             // Add to legend
-            String percentage = String.format("%.1f%%", amount / totalSpend * 100);
+            String percentage = String.format("%.1f%%", amount * 100.0 / totalSpend);
             legendItems.add(new PieChartLegendItem(category.getName(), percentage, category.getColorID()));
         }
 
+        // Sum the categories beyond topN into "other"
+        long otherTotal = 0L;
+        for (int i = limit; i < categoryTotals.size(); i++)
+        {
+            otherTotal += categoryTotals.get(i).getTotal();
+        }
+
         // Add "other" to dataset;
-        if (otherCategory.getValue() > 0)
+        if (otherTotal > 0)
         {
-            String percentage = String.format("%.1f%%", (otherCategory.getValue() / totalSpend) * 100);
-            entries.add(new PieEntry(otherCategory.getValue()
-                    .floatValue(), "Other")); // Cast to float
-            colorList.add(R.color.budgetBlue);  // Needs to be resolved to ARGB later
+            String percentage = String.format("%.1f%%", otherTotal * 100.0 / totalSpend);
+            slices.add(new PieChartSlice("Other", otherTotal, R.color.budgetBlue));  // Colour needs to be resolved to ARGB later
             legendItems.add(new PieChartLegendItem("Other", percentage, R.color.budgetBlue));
         }
 
-        // Create the dataset
-        PieDataSet dataSet = new PieDataSet(entries, "dataset");
-        return new PieChartData(dataSet, colorList, legendItems);
+        return new PieChartData(slices, legendItems);
 
     }
 
@@ -0,0 +1,118 @@
+package com.example.budgetbuddy.utility;
+
+import androidx.annotation.NonNull;
+
+import com.example.budgetbuddy.enums.RepeatDuration;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Utility class computing the occurrences of a repeating transaction.
+ * The n-th occurrence is always calculated from the first, never from the previous one, so a rule
+ * starting on the 31st falls on the last day of shorter months without drifting to the 28th for good.
+ * Times are local wall-clock times in the given zone, so a daily 09:00 rule stays at 09:00 across
+ * daylight saving changes.
+ */
+public final class Recurrence
+{
+    // Final class, no instantiation
+    private Recurrence()
+    {
+    }
+
+
+    /**
+     * Calculates the <code>n</code>-th occurrence of a rule, where occurrence 0 is <code>startMillis</code>
+     *
+     * @param startMillis the first occurrence, in epoch milliseconds
+     * @param duration    how often the rule repeats. Must not be <code>NEVER</code>
+     * @param n           the index of the occurrence, 0 or more
+     * @param zone        the time zone the rule repeats in
+     * @return the occurrence in epoch milliseconds
+     */
+    public static long occurrence(long startMillis, @NonNull RepeatDuration duration, long n, @NonNull ZoneId zone)
+    {
+        LocalDateTime start = LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), zone);
+        return toMillis(plus(start, duration, n), zone);
+    }
+
+    /**
+     * Finds the index of the first occurrence strictly after <code>afterMillis</code>.
+     * Estimates the index from the number of whole periods in between rather than stepping through
+     * every earlier occurrence, so the cost does not grow with the time since the rule started.
+     *
+     * @param startMillis the first occurrence, in epoch milliseconds
+     * @param duration    how often the rule repeats. Must not be <code>NEVER</code>
+     * @param afterMillis the watermark, in epoch milliseconds
+     * @param zone        the time zone the rule repeats in
+     * @return the smallest index whose occurrence is after <code>afterMillis</code>
+     */
+    public static long firstIndexAfter(long startMillis, @NonNull RepeatDuration duration, long afterMillis, @NonNull ZoneId zone)
+    {
+        if (afterMillis < startMillis)
+        {
+            return 0;
+        }
+
+        LocalDateTime start = LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), zone);
+        LocalDateTime after = LocalDateTime.ofInstant(Instant.ofEpochMilli(afterMillis), zone);
+
+        // Whole periods between the two, less one to allow for month-end clamping and DST gaps
+        long index = Math.max(0, periodsBetween(start, after, duration) - 1);
+        while (toMillis(plus(start, duration, index), zone) <= afterMillis)
+        {
+            index++;
+        }
+        return index;
+    }
+
+
+    /**
+     * Adds <code>n</code> periods of <code>duration</code> to <code>start</code>
+     */
+    @NonNull
+    private static LocalDateTime plus(@NonNull LocalDateTime start, @NonNull RepeatDuration duration, long n)
+    {
+        switch (duration)
+        {
+            case DAILY:
+                return start.plusDays(n);
+            case WEEKLY:
+                return start.plusWeeks(n);
+            case MONTHLY:
+                return start.plusMonths(n);
+            case YEARLY:
+                return start.plusYears(n);
+            default:
+                throw new IllegalArgumentException("A rule that never repeats has no occurrences");
+        }
+    }
+
+    /**
+     * @return the number of whole periods of <code>duration</code> from <code>start</code> to <code>end</code>
+     */
+    private static long periodsBetween(@NonNull LocalDateTime start, @NonNull LocalDateTime end, @NonNull RepeatDuration duration)
+    {
+        switch (duration)
+        {
+            case DAILY:
+                return ChronoUnit.DAYS.between(start, end);
+            case WEEKLY:
+                return ChronoUnit.WEEKS.between(start, end);
+            case MONTHLY:
+                return ChronoUnit.MONTHS.between(start, end);
+            case YEARLY:
+                return ChronoUnit.YEARS.between(start, end);
+            default:
+                throw new IllegalArgumentException("A rule that never repeats has no occurrences");
+        }
+    }
+
+    private static long toMillis(@NonNull LocalDateTime dateTime, @NonNull ZoneId zone)
+    {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+}
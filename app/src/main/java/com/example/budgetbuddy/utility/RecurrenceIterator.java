@@ -0,0 +1,80 @@
+package com.example.budgetbuddy.utility;
+
+import androidx.annotation.NonNull;
+
+import com.example.budgetbuddy.enums.RepeatDuration;
+
+import java.time.ZoneId;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Lazily yields the occurrences of a recurring rule that fall inside a window, in ascending order.
+ * Jumps straight to the first occurrence in the window and calculates each following one on demand,
+ * so the cost is proportional to the occurrences actually read, however long ago the rule started
+ * or however wide the window is. Nothing is allocated per occurrence.
+ */
+public final class RecurrenceIterator implements PrimitiveIterator.OfLong
+{
+    private final long startMillis;
+    private final RepeatDuration duration;
+    private final long toMillis;
+    private final ZoneId zone;
+
+    private long index;     // Index of the next occurrence
+    private long next;      // The next occurrence, in epoch milliseconds
+
+
+    /**
+     * Constructs an iterator over the occurrences of a rule from <code>fromMillis</code> (inclusive)
+     * to <code>toMillis</code> (exclusive)
+     *
+     * @param startMillis the rule's first occurrence, in epoch milliseconds
+     * @param duration    how often the rule repeats. Must not be <code>NEVER</code>
+     * @param fromMillis  the start of the window, inclusive
+     * @param toMillis    the end of the window, exclusive
+     * @param zone        the time zone the rule repeats in
+     */
+    public RecurrenceIterator(long startMillis, @NonNull RepeatDuration duration, long fromMillis, long toMillis, @NonNull ZoneId zone)
+    {
+        this.startMillis = startMillis;
+        this.duration = duration;
+        this.toMillis = toMillis;
+        this.zone = zone;
+
+        // The first occurrence after (from - 1) is the first at or after from
+        index = fromMillis == Long.MIN_VALUE ? 0 : Recurrence.firstIndexAfter(startMillis, duration, fromMillis - 1, zone);
+        next = Recurrence.occurrence(startMillis, duration, index, zone);
+    }
+
+
+    @Override
+    public boolean hasNext()
+    {
+        return next < toMillis;
+    }
+
+    /**
+     * @return the next occurrence in the window, in epoch milliseconds
+     */
+    @Override
+    public long nextLong()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        long current = next;
+        next = Recurrence.occurrence(startMillis, duration, ++index, zone);
+        return current;
+    }
+
+    /**
+     * @return the next occurrence without advancing, only valid while <code>hasNext</code> is true
+     */
+    public long peek()
+    {
+        return next;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.budgetbuddy.utility;
+
+import androidx.annotation.NonNull;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formats currency amounts and dates by writing digits straight into a reusable <code>StringBuilder</code>.
+ * Gives the same output as the <code>String.format</code> patterns used by <code>Converters</code>, without
+ * parsing a format string or creating a <code>Formatter</code> on every call; the only allocation is the
+ * returned <code>String</code>.
+ * Locale-aware: digits use the default locale's zero digit (as <code>String.format</code> does), which is
+ * looked up once and cached until the default locale changes.
+ * Not thread-safe; use <code>TextFormatter.get()</code> for the calling thread's instance.
+ */
+public final class TextFormatter
+{
+    private static final char CURRENCY_SYMBOL = '£';
+
+    // One instance per thread, so the buffers can be reused without locking
+    private static final ThreadLocal<TextFormatter> INSTANCE = ThreadLocal.withInitial(TextFormatter::new);
+
+    private final StringBuilder builder = new StringBuilder(32);
+    private final char[] digits = new char[20];     // Scratch space, enough for any long
+
+    private Locale cachedLocale;
+    private char zeroDigit;
+
+
+    // Use TextFormatter.get()
+    private TextFormatter()
+    {
+    }
+
+    /**
+     * @return the <code>TextFormatter</code> for the calling thread
+     */
+    @NonNull
+    public static TextFormatter get()
+    {
+        return INSTANCE.get();
+    }
+
+
+    /**
+     * Formats an amount in minor units (pence) as a currency value, e.g. "£12.34" or "£-0.05".
+     * Same output as <code>String.format("£%s%d.%02d", sign, pounds, pence)</code>
+     *
+     * @param minorUnits a <code>long</code> amount in pence
+     * @return a formatted <code>String</code>
+     */
+    @NonNull
+    public String formatMinorUnits(long minorUnits)
+    {
+        StringBuilder sb = start();
+        sb.append(CURRENCY_SYMBOL);
+        if (minorUnits < 0)
+        {
+            sb.append('-');
+        }
+
+        // Split while negative, so Long.MIN_VALUE does not overflow
+        long negative = minorUnits < 0 ? minorUnits : -minorUnits;
+        appendDigits(sb, -(negative / 100), 1);
+        sb.append('.');
+        appendDigits(sb, -(negative % 100), 2);
+        return sb.toString();
+    }
+
+    /**
+     * Formats an hour and minute, e.g. "09:05".
+     * Same output as <code>String.format("%02d:%02d", hour, minute)</code>
+     *
+     * @param hour   the hour of the day
+     * @param minute the minute of the hour
+     * @return a formatted <code>String</code>
+     */
+    @NonNull
+    public String formatHourMinute(int hour, int minute)
+    {
+        StringBuilder sb = start();
+        appendDigits(sb, hour, 2);
+        sb.append(':');
+        appendDigits(sb, minute, 2);
+        return sb.toString();
+    }
+
+    /**
+     * Formats a date, e.g. "01/07/2026".
+     * Same output as <code>String.format("%02d/%02d/%d", day, month, year)</code>
+     *
+     * @param day   the day of the month
+     * @param month the month, 1-indexed
+     * @param year  the year
+     * @return a formatted <code>String</code>
+     */
+    @NonNull
+    public String formatDayMonthYear(int day, int month, int year)
+    {
+        StringBuilder sb = start();
+        appendDigits(sb, day, 2);
+        sb.append('/');
+        appendDigits(sb, month, 2);
+        sb.append('/');
+        appendDigits(sb, year, 1);
+        return sb.toString();
+    }
+
+
+    /**
+     * Clears the builder and refreshes the cached zero digit if the default locale has changed
+     *
+     * @return the cleared <code>StringBuilder</code>
+     */
+    @NonNull
+    private StringBuilder start()
+    {
+        Locale locale = Locale.getDefault();
+        if (!locale.equals(cachedLocale))
+        {
+            cachedLocale = locale;
+            zeroDigit = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    /**
+     * Appends <code>value</code> in the locale's digits, left-padded with zeros to <code>minWidth</code>.
+     * Negative values are written with a leading '-' before the padding, as <code>%0Nd</code> does
+     *
+     * @param sb       the <code>StringBuilder</code> to append to
+     * @param value    the value to write
+     * @param minWidth the minimum number of characters, including any sign
+     */
+    private void appendDigits(@NonNull StringBuilder sb, long value, int minWidth)
+    {
+        int width = minWidth;
+        if (value < 0)
+        {
+            sb.append('-');
+            width--;
+        } else
+        {
+            value = -value;     // Work in negatives, so Long.MIN_VALUE does not overflow
+        }
+
+        // Write the digits backwards into the scratch buffer
+        int position = digits.length;
+        do
+        {
+            digits[--position] = (char) (zeroDigit - (value % 10));
+            value /= 10;
+        } while (value != 0);
+
+        for (int i = digits.length - position; i < width; i++)
+        {
+            sb.append(zeroDigit);
+        }
+        sb.append(digits, position, digits.length - position);
+    }
+}
@@ -15,9 +15,11 @@ import org.jetbrains.annotations.Contract;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 
@@ -32,21 +34,6 @@ public final class TransactionUtils
     }
 
 
-    /**
-     * Sorts a list of transactions by their date/time
-     *
-     * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @return the sorted list
-     */
-    @NonNull
-    @Contract("_ -> param1")
-    public static List<TransactionWithCategory> sortTransactions(@NonNull List<TransactionWithCategory> transactions)
-    {
-        transactions.sort((o1, o2) -> o2.transaction.getDateTime()
-                .compareTo(o1.transaction.getDateTime()));
-        return transactions;
-    }
-
     /**
      * Converts an <code>input</code> into a <code>RepeatDuration</code>
      *
@@ -78,9 +65,9 @@ public final class TransactionUtils
      * Gets the total spending of a list of <code>Transaction</code> objects
      *
      * @param transactions a list of <code>Transaction</code> objects
-     * @return the sum of all the amounts, as a <code>double</code>
+     * @return the sum of all the amounts in minor units (pence), as a <code>long</code>
      */
-    public static double getTotalSpend(@NonNull List<TransactionWithCategory> transactions)
+    public static long getTotalSpend(@NonNull List<TransactionWithCategory> transactions)
     {
         /*
         Takes the list of TransactionWithCategory objects & extracts the Transaction.
@@ -90,18 +77,20 @@ public final class TransactionUtils
         return transactions.stream()
                 .map(t -> t.transaction)
                 .filter(t -> t.getType() == TransactionType.OUTGOING)
-                .mapToDouble(Transaction::getAmount)
+                .mapToLong(Transaction::getAmount)
                 .sum();
     }
 
     /**
-     * Calculates the remaining budget given a starting budget and a list of transactions
+     * Calculates the remaining budget given a starting budget and a list of transactions.
+     * Counts every transaction passed in, so pass only the active budget period's transactions
+     * (<code>BudgetService</code> does this in SQL for the overview)
      *
-     * @param start        the <code>double</code> starting budget
+     * @param start        the <code>long</code> starting budget in minor units (pence)
      * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @return a <code>double</code> sum of outgoing transactions
+     * @return the <code>long</code> remaining budget in minor units
      */
-    public static double getBudgetRemaining(double start, @NonNull List<TransactionWithCategory> transactions)
+    public static long getBudgetRemaining(long start, @NonNull List<TransactionWithCategory> transactions)
     {
         /*
         Takes the list of TransactionWithCategory objects & extracts the Transaction.
@@ -109,9 +98,9 @@ public final class TransactionUtils
         Adds the negated amount for outgoing transactions and adds the positive amounts for incoming ones
         Returns the sum of these amounts
          */
-        double change = transactions.stream()
+        long change = transactions.stream()
                 .map(t -> t.transaction)
-                .mapToDouble(t -> t.getType() == TransactionType.OUTGOING ? -t.getAmount() : t.getAmount())
+                .mapToLong(t -> t.getType() == TransactionType.OUTGOING ? -t.getAmount() : t.getAmount())
                 .sum();
 
         // Return the start + the newly-calculated amount
@@ -123,19 +112,26 @@ public final class TransactionUtils
     /**
      * Helper method.
      * Gets the sum of outgoing amounts from a list of <code>TransactionWithCategory</code> objects,
-     * and aggregates them into a map of <code>Category</code> and <code>Double</code> objects
+     * and aggregates them into a map of <code>Category</code> and <code>Long</code> objects.
+     * Groups by the primitive category ID, so each row's <code>Category</code> (a separate instance per row
+     * from Room's <code>@Relation</code>) is never hashed; the map is only built once at the end.
      *
      * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @return a <code>Map</code> of <code>Category</code> and <code>Double</code> objects with aggregated spending
+     * @return a <code>Map</code> of <code>Category</code> and <code>Long</code> objects with aggregated spending in minor units
      */
     @NonNull
-    static Map<Category, Double> getCategoryTotals(@NonNull List<TransactionWithCategory> transactions)
+    static Map<Category, Long> getCategoryTotals(@NonNull List<TransactionWithCategory> transactions)
     {
-        return transactions.stream()
-                .filter(t -> t.transaction.getType() == TransactionType.OUTGOING)   // Only consider outgoing values
-                .collect(Collectors.groupingBy(t -> t.category,                     // Group by the key
-                        Collectors.summingDouble(t -> t.transaction.getAmount())    // Sum up the amounts, return total
-                ));
+        CategoryTotalsAccumulator accumulator = new CategoryTotalsAccumulator();
+        for (TransactionWithCategory t : transactions)
+        {
+            // Only consider outgoing values
+            if (t.transaction.getType() == TransactionType.OUTGOING)
+            {
+                accumulator.add(t.transaction.getCategoryID(), t.category, t.transaction.getAmount());
+            }
+        }
+        return accumulator.toMap();
     }
 
 
@@ -144,10 +140,10 @@ public final class TransactionUtils
      * Gets the list of category totals, sorts them and returns a list of map entries
      *
      * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @return a sorted list of <code>Map.Entry</code> objects (<code>Category, Double</code>)
+     * @return a sorted list of <code>Map.Entry</code> objects (<code>Category, Long</code>)
      */
     @NonNull
-    static List<Map.Entry<Category, Double>> getSortedCategoryTotals(@NonNull List<TransactionWithCategory> transactions)
+    static List<Map.Entry<Category, Long>> getSortedCategoryTotals(@NonNull List<TransactionWithCategory> transactions)
     {
         return getCategoryTotals(transactions).entrySet()                               // Get the set of Map entries
                 .stream()                                                               // Iterate through the set
@@ -157,43 +153,70 @@ public final class TransactionUtils
 
 
     /**
-     * Gets the list of transactions, passes them to be sorted into map entries, then groups them into named categories BELOW <code>topN</code>
-     * and an "other" category for the last entry.
+     * Gets the category totals for the list of transactions, then selects the <code>topN</code> largest as
+     * named categories and groups the rest into an "other" category.
+     * Uses a min-heap bounded to <code>topN</code> entries, so only O(k log topN) work is done for k categories
+     * rather than sorting every total. Ties are broken the same way as <code>getSortedCategoryTotals</code>
+     * (a stable sort), so both give the same named categories in the same order.
      *
      * @param transactions a list of <code>TransactionWithCategory</code> objects
-     * @return a <code>Pair</code>, where the first item is a a sorted list of <code>Map.Entry</code> objects (<code>Category, Double</code>)
-     * (This represents the "named categories"), and the second item is a <code>Map.Entry</code> object (<code>String, Double</code>) containing
+     * @param topN         the number of named categories to keep
+     * @return a <code>Pair</code>, where the first item is a a sorted list of <code>Map.Entry</code> objects (<code>Category, Long</code>)
+     * (This represents the "named categories"), and the second item is a <code>Map.Entry</code> object (<code>String, Long</code>) containing
      * the "other" data
      */
     @NonNull
-    public static Pair<List<Map.Entry<Category, Double>>, Map.Entry<String, Double>> getTopNCategoryTotals(@NonNull List<TransactionWithCategory> transactions, int topN)
+    public static Pair<List<Map.Entry<Category, Long>>, Map.Entry<String, Long>> getTopNCategoryTotals(@NonNull List<TransactionWithCategory> transactions, int topN)
     {
         // Empty check
         if (transactions.isEmpty())
         {
             // Break early
-            return new Pair<>(new ArrayList<>(), new AbstractMap.SimpleEntry<>("Other", 0.0));
+            return new Pair<>(new ArrayList<>(), new AbstractMap.SimpleEntry<>("Other", 0L));
         }
 
-        // Get the sorted totals
-        List<Map.Entry<Category, Double>> sortedCategoryTotals = TransactionUtils.getSortedCategoryTotals(transactions);
-        int limit = Math.min(sortedCategoryTotals.size(), topN); // Math.min ensures no out-of-bounds
+        // Index the totals in map iteration order, the order a stable sort keeps for equal values
+        List<Map.Entry<Category, Long>> categoryTotals = new ArrayList<>(TransactionUtils.getCategoryTotals(transactions).entrySet());
+        int limit = Math.max(0, Math.min(categoryTotals.size(), topN));  // Math.min ensures no out-of-bounds
 
-        // From the start of the list to the limit
-        List<Map.Entry<Category, Double>> namedCategories = new ArrayList<>(sortedCategoryTotals.subList(0, limit));
+        /*
+        The head of the heap is the weakest kept entry: the smallest total, or for equal totals
+        the one seen last (the one a stable descending sort would place later)
+         */
+        Comparator<Integer> weakestFirst = (a, b) ->
+        {
+            int byValue = Long.compare(categoryTotals.get(a).getValue(), categoryTotals.get(b).getValue());
+            return byValue != 0 ? byValue : Integer.compare(b, a);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, limit), weakestFirst);
+
+        // Single pass: keep the topN in the heap, sum everything pushed out into "other"
+        long otherTotal = 0L;
+        for (int i = 0; i < categoryTotals.size(); i++)
+        {
+            if (heap.size() < limit)
+            {
+                heap.offer(i);
+            } else if (limit > 0 && weakestFirst.compare(i, heap.peek()) > 0)
+            {
+                // Beats the weakest kept entry, which moves into "other"
+                otherTotal += categoryTotals.get(heap.poll()).getValue();
+                heap.offer(i);
+            } else
+            {
+                otherTotal += categoryTotals.get(i).getValue();
+            }
+        }
 
-        // Get the other total
-        double otherTotal = 0.0;
-        if (sortedCategoryTotals.size() > topN)
+        // Drain weakest-first, then flip to largest first
+        List<Map.Entry<Category, Long>> namedCategories = new ArrayList<>(heap.size());
+        while (!heap.isEmpty())
         {
-            // Gets the sum of all categories beyond topN
-            otherTotal = sortedCategoryTotals.subList(topN, sortedCategoryTotals.size())
-                    .stream()
-                    .mapToDouble(Map.Entry::getValue)
-                    .sum();
+            namedCategories.add(categoryTotals.get(heap.poll()));
         }
+        Collections.reverse(namedCategories);
 
-        Map.Entry<String, Double> otherEntry = new AbstractMap.SimpleEntry<>("Other", otherTotal);
+        Map.Entry<String, Long> otherEntry = new AbstractMap.SimpleEntry<>("Other", otherTotal);
 
         return new Pair<>(namedCategories, otherEntry);
     }
@@ -0,0 +1,74 @@
+package com.example.budgetbuddy.work
+
+import android.content.Context
+import android.util.Log
+import androidx.work.CoroutineWorker
+import androidx.work.ExistingPeriodicWorkPolicy
+import androidx.work.PeriodicWorkRequestBuilder
+import androidx.work.WorkManager
+import androidx.work.WorkerParameters
+import com.example.budgetbuddy.domain.services.RecurrenceService
+import dagger.hilt.EntryPoint
+import dagger.hilt.InstallIn
+import dagger.hilt.android.EntryPointAccessors
+import dagger.hilt.components.SingletonComponent
+import java.util.concurrent.TimeUnit
+
+/**
+ * Background job inserting the occurrences of recurring transactions that
+ * have fallen due. Runs once a day, and once each time the app starts so
+ * that occurrences missed while the device was off appear straight away.
+ * However long it has been, every missed occurrence is inserted in one batch.
+ *
+ * Both runs are the same unique periodic work, so WorkManager never runs two
+ * of them at once. RecurrenceService also only inserts a rule's occurrences
+ * if its watermark hasn't moved, so an overlapping run can't duplicate them.
+ *
+ * WorkManager creates workers itself, so the RecurrenceService is fetched
+ * from the Hilt singleton component through an entry point rather than
+ * being constructor-injected.
+ */
+class RecurringTransactionWorker(
+    context: Context,
+    params: WorkerParameters
+) : CoroutineWorker(context, params)
+{
+    /**
+     * Gives the worker access to Hilt's dependency graph
+     */
+    @EntryPoint
+    @InstallIn(SingletonComponent::class)
+    interface WorkerEntryPoint
+    {
+        fun recurrenceService(): RecurrenceService
+    }
+
+    override suspend fun doWork(): Result
+    {
+        val service = EntryPointAccessors
+            .fromApplication(applicationContext, WorkerEntryPoint::class.java)
+            .recurrenceService()
+
+        val inserted = service.materializeDue()
+        Log.d("RecurringTransactionWorker", "Inserted $inserted recurring transactions")
+        return Result.success()
+    }
+
+    companion object
+    {
+        private const val WORK_NAME = "recurring_transactions"
+
+        /**
+         * Schedules the daily job. Re-enqueueing it restarts the schedule, and
+         * the first period of a periodic job runs straight away, which gives the
+         * catch-up run at app startup
+         */
+        @JvmStatic
+        fun schedule(context: Context)
+        {
+            val daily = PeriodicWorkRequestBuilder<RecurringTransactionWorker>(1, TimeUnit.DAYS).build()
+            WorkManager.getInstance(context)
+                .enqueueUniquePeriodicWork(WORK_NAME, ExistingPeriodicWorkPolicy.CANCEL_AND_REENQUEUE, daily)
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.budgetbuddy.adapters;
+
+import com.example.budgetbuddy.R;
+import com.example.budgetbuddy.domain.entities.Category;
+import com.example.budgetbuddy.domain.entities.Transaction;
+import com.example.budgetbuddy.domain.entities.TransactionWithCategory;
+import com.example.budgetbuddy.enums.RepeatDuration;
+import com.example.budgetbuddy.enums.TransactionType;
+import com.example.budgetbuddy.ui.TransactionRowModel;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+/**
+ * Tests the content comparison and change payloads of TransactionDiffCallback using arrange-act-assert pattern
+ */
+public class TransactionDiffCallbackTest extends TestCase
+{
+    private final TransactionDiffCallback callback = new TransactionDiffCallback();
+    private final Category shopping = new Category(1, "Shopping", R.color.red);
+    private final TransactionRowModel original = withCategory(1000, TransactionType.OUTGOING, 1_700_000_000_000L, RepeatDuration.NEVER, shopping);
+
+    public void testAreContentsTheSame()
+    {
+        // Same values, different instances
+        assertTrue(callback.areContentsTheSame(original, withCategory(1000, TransactionType.OUTGOING, 1_700_000_000_000L, RepeatDuration.NEVER, shopping)));
+
+        // An edited amount or category is a change, not only the date
+        assertFalse(callback.areContentsTheSame(original, withCategory(2000, TransactionType.OUTGOING, 1_700_000_000_000L, RepeatDuration.NEVER, shopping)));
+        assertFalse(callback.areContentsTheSame(original, withCategory(1000, TransactionType.OUTGOING, 1_700_000_000_000L, RepeatDuration.NEVER, new Category(1, "Food", R.color.red))));
+    }
+
+    public void testGetChangePayload()
+    {
+        // Amount and type both affect the amount text
+        assertEquals(TransactionDiffCallback.CHANGED_AMOUNT,
+                callback.getChangePayload(original, withCategory(2000, TransactionType.OUTGOING, 1_700_000_000_000L, RepeatDuration.NEVER, shopping)));
+        assertEquals(TransactionDiffCallback.CHANGED_AMOUNT,
+                callback.getChangePayload(original, withCategory(1000, TransactionType.INCOMING, 1_700_000_000_000L, RepeatDuration.NEVER, shopping)));
+
+        // Several fields at once
+        assertEquals(TransactionDiffCallback.CHANGED_DATE_TIME | TransactionDiffCallback.CHANGED_CATEGORY,
+                callback.getChangePayload(original, withCategory(1000, TransactionType.OUTGOING, 1_700_000_060_000L, RepeatDuration.NEVER, new Category(1, "Food", R.color.red))));
+
+        // Fields that are not displayed need no rebinding
+        assertEquals(0, callback.getChangePayload(original, withCategory(1000, TransactionType.OUTGOING, 1_700_000_000_000L, RepeatDuration.MONTHLY, shopping)));
+    }
+
+    public void testCombinePayloads()
+    {
+        assertEquals(TransactionDiffCallback.CHANGED_AMOUNT | TransactionDiffCallback.CHANGED_CATEGORY,
+                TransactionDiffCallback.combinePayloads(Arrays.asList(TransactionDiffCallback.CHANGED_AMOUNT, TransactionDiffCallback.CHANGED_CATEGORY)));
+    }
+
+    private static TransactionRowModel withCategory(long amount, TransactionType type, long dateTime, RepeatDuration repeat, Category category)
+    {
+        return TransactionRowModel.from(new TransactionWithCategory(new Transaction(7, amount, type, dateTime, category.getId(), repeat, null), category));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.budgetbuddy.data.db;
+
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteProgram;
+
+import com.example.budgetbuddy.domain.entities.TransactionFilter;
+import com.example.budgetbuddy.enums.TransactionType;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Tests the SQL and bound arguments TransactionFilterQuery builds for each criterion,
+ * using arrange-act-assert pattern
+ */
+public class TransactionFilterQueryTest extends TestCase
+{
+    private static final String ORDER_BY = " ORDER BY datetime DESC, id DESC";
+
+    public void testEmptyFilterHasNoWhereClause()
+    {
+        // Act
+        SimpleSQLiteQuery query = TransactionFilterQuery.build(TransactionFilter.NONE);
+
+        // Assert
+        assertEquals("SELECT * FROM `transaction`" + ORDER_BY, query.getSql());
+        assertEquals(0, query.getArgCount());
+        assertTrue(TransactionFilter.NONE.isEmpty());
+    }
+
+    public void testDateRangeIsBound()
+    {
+        // Arrange
+        TransactionFilter filter = new TransactionFilter(Collections.emptySet(), null, null, null, 1000L, 2000L);
+
+        // Act
+        SimpleSQLiteQuery query = TransactionFilterQuery.build(filter);
+
+        // Assert
+        assertEquals("SELECT * FROM `transaction` WHERE datetime >= ? AND datetime < ?" + ORDER_BY, query.getSql());
+        assertEquals(Arrays.asList(1000L, 2000L), bindArgs(query));
+    }
+
+    public void testCategorySetUsesOnePlaceholderPerCategory()
+    {
+        // Arrange
+        TransactionFilter filter = new TransactionFilter(new LinkedHashSet<>(Arrays.asList(3L, 1L, 7L)), null, null, null, null, null);
+
+        // Act
+        SimpleSQLiteQuery query = TransactionFilterQuery.build(filter);
+
+        // Assert
+        assertEquals("SELECT * FROM `transaction` WHERE categoryID IN (?, ?, ?)" + ORDER_BY, query.getSql());
+        assertEquals(Arrays.asList(3L, 1L, 7L), bindArgs(query));
+    }
+
+    public void testAllCriteriaCombined()
+    {
+        // Arrange
+        TransactionFilter filter = new TransactionFilter(Collections.singleton(2L), TransactionType.OUTGOING, 500L, 10000L, 1000L, 2000L);
+
+        // Act
+        SimpleSQLiteQuery query = TransactionFilterQuery.build(filter);
+
+        // Assert - the type is bound by name, as Room stores enums
+        assertEquals("SELECT * FROM `transaction` WHERE datetime >= ? AND datetime < ? AND categoryID IN (?)"
+                + " AND type = ? AND amount >= ? AND amount <= ?" + ORDER_BY, query.getSql());
+        assertEquals(Arrays.asList(1000L, 2000L, 2L, "OUTGOING", 500L, 10000L), bindArgs(query));
+        assertFalse(filter.isEmpty());
+    }
+
+
+    /**
+     * Binds <code>query</code> to a program that records each argument in order
+     */
+    private static List<Object> bindArgs(SimpleSQLiteQuery query)
+    {
+        List<Object> args = new ArrayList<>();
+        query.bindTo(new SupportSQLiteProgram()
+        {
+            @Override
+            public void bindNull(int index)
+            {
+                args.add(null);
+            }
+
+            @Override
+            public void bindLong(int index, long value)
+            {
+                args.add(value);
+            }
+
+            @Override
+            public void bindDouble(int index, double value)
+            {
+                args.add(value);
+            }
+
+            @Override
+            public void bindString(int index, String value)
+            {
+                args.add(value);
+            }
+
+            @Override
+            public void bindBlob(int index, byte[] value)
+            {
+                args.add(value);
+            }
+
+            @Override
+            public void clearBindings()
+            {
+                args.clear();
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        });
+        return args;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.budgetbuddy.data.db;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that TransactionSearchQuery turns user input into safe FTS4 prefix terms,
+ * using arrange-act-assert pattern
+ */
+public class TransactionSearchQueryTest extends TestCase
+{
+    public void testEachWordBecomesAPrefixTerm()
+    {
+        // Act
+        String expression = TransactionSearchQuery.toMatchExpression("  coff  shop ");
+
+        // Assert
+        assertEquals("coff* shop*", expression);
+    }
+
+    public void testFtsSyntaxIsStripped()
+    {
+        // Act - quotes, '-', '*' and parentheses are FTS operators
+        String expression = TransactionSearchQuery.toMatchExpression("\"Tesco\" -(extra)* 24/7");
+
+        // Assert
+        assertEquals("Tesco* extra* 24* 7*", expression);
+    }
+
+    public void testNonLatinLettersAreKept()
+    {
+        // Act
+        String expression = TransactionSearchQuery.toMatchExpression("café");
+
+        // Assert
+        assertEquals("café*", expression);
+    }
+
+    public void testNoWordsReturnsNull()
+    {
+        // Assert
+        assertNull(TransactionSearchQuery.toMatchExpression(""));
+        assertNull(TransactionSearchQuery.toMatchExpression("  \"*- "));
+    }
+}
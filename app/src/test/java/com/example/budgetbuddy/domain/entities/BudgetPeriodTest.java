@@ -0,0 +1,81 @@
+package com.example.budgetbuddy.domain.entities;
+
+import junit.framework.TestCase;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Tests the budget period boundaries calculated by BudgetPeriod using arrange-act-assert pattern
+ */
+public class BudgetPeriodTest extends TestCase
+{
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    public void testCalendarMonthPeriod()
+    {
+        // Act
+        BudgetPeriod period = BudgetPeriod.containing(millis(LocalDateTime.of(2026, 3, 17, 14, 0)), 1, LONDON);
+
+        // Assert - 1st March to 1st April, across the change to summer time
+        assertEquals(midnight(LocalDate.of(2026, 3, 1)), period.getStart());
+        assertEquals(midnight(LocalDate.of(2026, 4, 1)), period.getEnd());
+    }
+
+    public void testBeforeStartDayBelongsToPreviousPeriod()
+    {
+        // Act - paid on the 25th; the 10th of March is in the period that began on 25th February
+        BudgetPeriod period = BudgetPeriod.containing(millis(LocalDateTime.of(2026, 3, 10, 9, 0)), 25, LONDON);
+
+        // Assert
+        assertEquals(midnight(LocalDate.of(2026, 2, 25)), period.getStart());
+        assertEquals(midnight(LocalDate.of(2026, 3, 25)), period.getEnd());
+    }
+
+    public void testStartDayIsClampedToShortMonths()
+    {
+        // Act - the 31st does not exist in February, so that period begins on the 28th
+        BudgetPeriod period = BudgetPeriod.containing(millis(LocalDateTime.of(2026, 3, 1, 12, 0)), 31, LONDON);
+
+        // Assert
+        assertEquals(midnight(LocalDate.of(2026, 2, 28)), period.getStart());
+        assertEquals(midnight(LocalDate.of(2026, 3, 31)), period.getEnd());
+    }
+
+    public void testStartIsInclusiveAndEndExclusive()
+    {
+        // Arrange
+        long start = midnight(LocalDate.of(2026, 5, 1));
+        BudgetPeriod period = BudgetPeriod.containing(start, 1, LONDON);
+
+        // Assert
+        assertEquals(start, period.getStart());
+        assertTrue(period.contains(start));
+        assertFalse(period.contains(period.getEnd()));
+        assertEquals(period.getEnd(), BudgetPeriod.containing(period.getEnd(), 1, LONDON).getStart());
+    }
+
+    public void testInvalidStartDayIsRejected()
+    {
+        try
+        {
+            BudgetPeriod.containing(0L, 0, LONDON);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected)
+        {
+            // Pass
+        }
+    }
+
+
+    private static long millis(LocalDateTime dateTime)
+    {
+        return dateTime.atZone(LONDON).toInstant().toEpochMilli();
+    }
+
+    private static long midnight(LocalDate date)
+    {
+        return date.atStartOfDay(LONDON).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.budgetbuddy.domain.entities;
+
+import junit.framework.TestCase;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * Tests the month index used as the key of the monthly_summary table
+ */
+public class MonthlySummaryTest extends TestCase
+{
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    public void testMonthIndexIsYearTimesTwelvePlusMonth()
+    {
+        // Act & Assert
+        assertEquals(2026 * 12, MonthlySummary.monthIndexOf(YearMonth.of(2026, 1)));
+        assertEquals(2026 * 12 + 11, MonthlySummary.monthIndexOf(YearMonth.of(2026, 12)));
+        assertEquals(MonthlySummary.monthIndexOf(YearMonth.of(2026, 12)) + 1, MonthlySummary.monthIndexOf(YearMonth.of(2027, 1)));
+    }
+
+    public void testMonthIndexUsesLocalTime()
+    {
+        // Arrange - 00:30 on 1st July in London is still 30th June in UTC
+        long millis = LocalDateTime.of(2026, 7, 1, 0, 30).atZone(LONDON).toInstant().toEpochMilli();
+
+        // Act & Assert
+        assertEquals(MonthlySummary.monthIndexOf(YearMonth.of(2026, 7)), MonthlySummary.monthIndexOf(millis, LONDON));
+        assertEquals(MonthlySummary.monthIndexOf(YearMonth.of(2026, 6)), MonthlySummary.monthIndexOf(millis, ZoneId.of("UTC")));
+    }
+
+    public void testYearMonthRoundTrip()
+    {
+        // Arrange
+        YearMonth month = YearMonth.of(2025, 3);
+
+        // Act
+        MonthlySummary summary = new MonthlySummary(MonthlySummary.monthIndexOf(month), 1L, 1000L, 0L, 1);
+
+        // Assert
+        assertEquals(month, summary.getYearMonth());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.budgetbuddy.domain.entities;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the minor-unit parsing in the TransactionAmount value class using arrange-act-assert pattern
+ */
+public class TransactionAmountTest extends TestCase
+{
+    public void testParseMinorUnits()
+    {
+        // Whole amounts, one and two decimal places
+        assertEquals(Long.valueOf(1200), TransactionAmount.parseMinorUnits("12"));
+        assertEquals(Long.valueOf(1250), TransactionAmount.parseMinorUnits("12.5"));
+        assertEquals(Long.valueOf(1999), TransactionAmount.parseMinorUnits("19.99"));
+        assertEquals(Long.valueOf(5), TransactionAmount.parseMinorUnits(" 0.05 "));
+    }
+
+    public void testParseMinorUnitsRejectsBadInput()
+    {
+        assertNull(TransactionAmount.parseMinorUnits(""));
+        assertNull(TransactionAmount.parseMinorUnits("abc"));
+        assertNull(TransactionAmount.parseMinorUnits("1.234"));     // More than 2 d.p.
+        assertNull(TransactionAmount.parseMinorUnits("-5"));
+        assertNull(TransactionAmount.parseMinorUnits("99999999999999999999"));  // Overflows a Long
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.budgetbuddy.domain.services
+
+import com.example.budgetbuddy.data.RecurringRuleRepository
+import com.example.budgetbuddy.domain.entities.RecurringRule
+import com.example.budgetbuddy.domain.entities.RuleOccurrences
+import com.example.budgetbuddy.domain.entities.Transaction
+import com.example.budgetbuddy.enums.RepeatDuration
+import com.example.budgetbuddy.enums.TransactionType
+import junit.framework.TestCase
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.runBlocking
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * Tests that RecurrenceService never inserts an occurrence twice, however its
+ * runs overlap, using arrange-act-assert pattern
+ */
+class RecurrenceServiceTest : TestCase()
+{
+    private lateinit var repo: FakeRecurringRuleRepository
+    private lateinit var service: RecurrenceService
+
+    override fun setUp()
+    {
+        super.setUp()
+        repo = FakeRecurringRuleRepository()
+        service = RecurrenceService(repo)
+    }
+
+    fun testRunningTwiceInsertsEachOccurrenceOnce() = runBlocking {
+        // Arrange - daily rule starting on the 1st, only the 1st inserted so far
+        repo.rules[1] = dailyRule(1)
+
+        // Act
+        val first = service.materializeDue(day(5), ZONE)
+        val second = service.materializeDue(day(5), ZONE)
+
+        // Assert - the 2nd to the 5th, once each
+        assertEquals(4, first)
+        assertEquals(0, second)
+        assertEquals(listOf(day(2), day(3), day(4), day(5)), repo.inserted.map { it.dateTime })
+        assertEquals(day(5), repo.rules[1]!!.lastMaterialized)
+    }
+
+    fun testOverlappingRunsInsertEachOccurrenceOnce() = runBlocking {
+        // Arrange - the second run reads the rules before the first one writes
+        repo.rules[1] = dailyRule(1)
+        repo.staleReads = true
+
+        // Act
+        val first = service.materializeDue(day(5), ZONE)
+        val second = service.materializeDue(day(5), ZONE)
+
+        // Assert - the second run's watermark is out of date, so it inserts nothing
+        assertEquals(4, first)
+        assertEquals(0, second)
+        assertEquals(4, repo.inserted.size)
+    }
+
+    fun testDeletedRuleInsertsNothing() = runBlocking {
+        // Arrange - the rule is deleted after it is read
+        repo.rules[1] = dailyRule(1)
+        repo.staleReads = true
+        repo.getDueRules(day(5))
+        repo.rules.remove(1)
+
+        // Act
+        val inserted = service.materializeDue(day(5), ZONE)
+
+        // Assert
+        assertEquals(0, inserted)
+        assertTrue(repo.inserted.isEmpty())
+    }
+
+
+    /**
+     * Stands in for the DAO: materialize only inserts a rule's occurrences if
+     * its watermark is still where it was read, as the conditional UPDATE does.
+     * With [staleReads], getDueRules returns the rules as they were first read
+     */
+    private class FakeRecurringRuleRepository : RecurringRuleRepository
+    {
+        val rules = LinkedHashMap<Long, RecurringRule>()
+        val inserted = ArrayList<Transaction>()
+        var staleReads = false
+        private var snapshot: List<RecurringRule>? = null
+
+        override fun getAllRules(): Flow<List<RecurringRule>> = flowOf(rules.values.toList())
+
+        override suspend fun getDueRules(now: Long): List<RecurringRule>
+        {
+            val current = rules.values.filter { it.lastMaterialized < now }
+            if (!staleReads) return current
+            return snapshot ?: current.also { snapshot = it }
+        }
+
+        override suspend fun insertRule(rule: RecurringRule)
+        {
+            rules[rule.id] = rule
+        }
+
+        override suspend fun insertRecurringTransaction(transaction: Transaction)
+        {
+            throw UnsupportedOperationException()
+        }
+
+        override suspend fun deleteRule(rule: RecurringRule)
+        {
+            rules.remove(rule.id)
+        }
+
+        override suspend fun materialize(due: List<RuleOccurrences>): Int
+        {
+            var count = 0
+            for (batch in due)
+            {
+                val stored = rules[batch.rule.id]
+                if (stored != null && stored.lastMaterialized == batch.rule.lastMaterialized)
+                {
+                    rules[stored.id] = stored.copy(lastMaterialized = batch.watermark)
+                    inserted.addAll(batch.occurrences)
+                    count += batch.occurrences.size
+                }
+            }
+            return count
+        }
+    }
+
+    private fun dailyRule(watermarkDay: Int) = RecurringRule(
+        id = 1,
+        sourceTransactionID = 1,
+        amount = 100,
+        type = TransactionType.OUTGOING,
+        categoryID = 1,
+        repeatDuration = RepeatDuration.DAILY,
+        startDateTime = day(1),
+        lastMaterialized = day(watermarkDay)
+    )
+
+    companion object
+    {
+        private val ZONE: ZoneId = ZoneId.of("UTC")
+
+        private fun day(dayOfMarch: Int) =
+            LocalDateTime.of(2026, 3, dayOfMarch, 0, 0).atZone(ZONE).toInstant().toEpochMilli()
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.budgetbuddy.utility;
+
+import com.example.budgetbuddy.domain.entities.ProjectedEntry;
+import com.example.budgetbuddy.domain.entities.RecurringRule;
+import com.example.budgetbuddy.domain.entities.Transaction;
+import com.example.budgetbuddy.enums.RepeatDuration;
+import com.example.budgetbuddy.enums.TransactionType;
+
+import junit.framework.TestCase;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests that CashFlowProjector merges real transactions and rule occurrences in date order,
+ * using arrange-act-assert pattern
+ */
+public class CashFlowProjectorTest extends TestCase
+{
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    private long from, to;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        // Window: the whole of March 2026
+        from = day(1);
+        to = millis(LocalDateTime.of(2026, 4, 1, 0, 0));
+    }
+
+    public void testMergesInDateOrderWithRunningBalance()
+    {
+        // Arrange - real rows on the 5th and 20th, a weekly £10 spend from the 1st, a monthly £500 income on the 15th
+        List<Transaction> real = Arrays.asList(
+                transaction(2000, TransactionType.OUTGOING, day(5)),
+                transaction(3000, TransactionType.OUTGOING, day(20)));
+        RecurringRule weekly = rule(1000, TransactionType.OUTGOING, RepeatDuration.WEEKLY, day(1), day(1) - 1);
+        RecurringRule monthly = rule(50000, TransactionType.INCOMING, RepeatDuration.MONTHLY, millis(LocalDateTime.of(2026, 1, 15, 9, 0)), 0);
+
+        // Act
+        List<ProjectedEntry> entries = CashFlowProjector.project(10000, real, Arrays.asList(weekly, monthly), from, to, ZONE);
+
+        // Assert - weekly on 1, 8, 15, 22, 29; monthly on the 15th (its watermark is long past)
+        long[] expectedTimes = {day(1), day(5), day(8), millis(LocalDateTime.of(2026, 3, 15, 0, 0)),
+                millis(LocalDateTime.of(2026, 3, 15, 9, 0)), day(20), day(22), day(29)};
+        assertEquals(expectedTimes.length, entries.size());
+        for (int i = 0; i < expectedTimes.length; i++)
+        {
+            assertEquals(expectedTimes[i], entries.get(i).getTransaction().getDateTime());
+        }
+
+        assertFalse(entries.get(1).isProjected());      // The real row on the 5th
+        assertTrue(entries.get(4).isProjected());       // The income on the 15th
+
+        // 100 - 10 - 20 - 10 - 10 + 500 - 30 - 10 - 10 = 500
+        assertEquals(50000L, entries.get(entries.size() - 1).getBalance());
+    }
+
+    public void testOccurrencesUpToWatermarkAreNotProjected()
+    {
+        // Arrange - daily rule already materialised up to and including the 10th
+        RecurringRule daily = rule(100, TransactionType.OUTGOING, RepeatDuration.DAILY, day(1), day(10));
+
+        // Act
+        List<ProjectedEntry> entries = CashFlowProjector.project(0, Collections.emptyList(), Collections.singletonList(daily), from, to, ZONE);
+
+        // Assert - 11th to 31st
+        assertEquals(21, entries.size());
+        assertEquals(day(11), entries.get(0).getTransaction().getDateTime());
+        assertEquals(-2100L, entries.get(20).getBalance());
+    }
+
+    public void testRealTransactionComesFirstOnTies()
+    {
+        // Arrange
+        List<Transaction> real = Collections.singletonList(transaction(500, TransactionType.OUTGOING, day(2)));
+        RecurringRule daily = rule(100, TransactionType.OUTGOING, RepeatDuration.DAILY, day(2), day(2) - 1);
+
+        // Act
+        List<ProjectedEntry> entries = CashFlowProjector.project(0, real, Collections.singletonList(daily), from, day(3), ZONE);
+
+        // Assert
+        assertEquals(2, entries.size());
+        assertFalse(entries.get(0).isProjected());
+        assertTrue(entries.get(1).isProjected());
+    }
+
+
+    private static Transaction transaction(long amount, TransactionType type, long dateTime)
+    {
+        return new Transaction(1, amount, type, dateTime, 1, RepeatDuration.NEVER, null);
+    }
+
+    private static RecurringRule rule(long amount, TransactionType type, RepeatDuration duration, long start, long watermark)
+    {
+        return new RecurringRule(1, 1, amount, type, 1, duration, start, watermark, null);
+    }
+
+    private static long day(int dayOfMarch)
+    {
+        return millis(LocalDateTime.of(2026, 3, dayOfMarch, 0, 0));
+    }
+
+    private static long millis(LocalDateTime dateTime)
+    {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
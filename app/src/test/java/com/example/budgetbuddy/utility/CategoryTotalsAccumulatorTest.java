@@ -0,0 +1,64 @@
+package com.example.budgetbuddy.utility;
+
+import com.example.budgetbuddy.R;
+import com.example.budgetbuddy.domain.entities.Category;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+
+/**
+ * Tests the CategoryTotalsAccumulator hash table using arrange-act-assert pattern
+ */
+public class CategoryTotalsAccumulatorTest extends TestCase
+{
+    public void testAddSumsByCategoryID()
+    {
+        // Arrange - a separate Category instance per row, as Room's @Relation returns
+        CategoryTotalsAccumulator accumulator = new CategoryTotalsAccumulator();
+        Category shopping = new Category(1, "Shopping", R.color.red);
+
+        // Act
+        accumulator.add(1, shopping, 1000);
+        accumulator.add(1, new Category(1, "Shopping", R.color.red), 250);
+        accumulator.add(0, new Category(0, "Unsaved", R.color.blue), 75);     // 0 is a valid key
+        Map<Category, Long> totals = accumulator.toMap();
+
+        // Assert
+        assertEquals(2, accumulator.size());
+        assertEquals(1250L, totals.get(shopping).longValue());
+        assertEquals(75L, totals.get(new Category(0, "Unsaved", R.color.blue)).longValue());
+    }
+
+    public void testAddBeyondInitialCapacity()
+    {
+        // Arrange
+        CategoryTotalsAccumulator accumulator = new CategoryTotalsAccumulator();
+
+        // Act - enough categories to force the table to grow several times, added twice each
+        for (int round = 0; round < 2; round++)
+        {
+            for (long id = 1; id <= 200; id++)
+            {
+                accumulator.add(id, new Category(id, "Category " + id, R.color.red), id);
+            }
+        }
+        Map<Category, Long> totals = accumulator.toMap();
+
+        // Assert - every total survives the re-hashing
+        assertEquals(200, accumulator.size());
+        assertEquals(200, totals.size());
+        for (long id = 1; id <= 200; id++)
+        {
+            assertEquals(id * 2, totals.get(new Category(id, "Category " + id, R.color.red)).longValue());
+        }
+    }
+
+    public void testEmpty()
+    {
+        CategoryTotalsAccumulator accumulator = new CategoryTotalsAccumulator();
+
+        assertEquals(0, accumulator.size());
+        assertTrue(accumulator.toMap().isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.budgetbuddy.utility;
+
+import junit.framework.TestCase;
+
+import java.util.Locale;
+
+/**
+ * Micro-benchmark comparing the <code>TextFormatter</code>-backed <code>Converters</code> methods with the
+ * <code>String.format</code> calls they replace. Timings are printed rather than asserted, as they depend on
+ * the machine running the tests; the outputs are asserted to be equal.
+ * <p>
+ * Excluded from the default unit test run, run with <code>./gradlew test -Pbenchmark</code>.
+ */
+public class ConvertersBenchmark extends TestCase
+{
+    private static final int CALLS_PER_ROUND = 100_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 20;
+
+    // Written to after every round so the JIT cannot remove the work being measured
+    private long sink;
+
+    public void testBenchmarkMinorUnitsToCurrencyString()
+    {
+        // Sanity check that both paths agree before timing them
+        assertEquals(formatWithStringFormat(-123456), Converters.minorUnitsToCurrencyString(-123456));
+
+        // Warm up both paths so the JIT has compiled them before measuring
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            sink += runStringFormat();
+            sink += runTextFormatter();
+        }
+
+        // Keep the best round of each, which is the least affected by GC and scheduling noise
+        long bestStringFormat = Long.MAX_VALUE;
+        long bestTextFormatter = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++)
+        {
+            long start = System.nanoTime();
+            sink += runStringFormat();
+            bestStringFormat = Math.min(bestStringFormat, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            sink += runTextFormatter();
+            bestTextFormatter = Math.min(bestTextFormatter, System.nanoTime() - start);
+        }
+
+        System.out.printf("minorUnitsToCurrencyString %,d calls: String.format %.1f ns/call, TextFormatter %.1f ns/call (%.1fx)%n",
+                CALLS_PER_ROUND, (double) bestStringFormat / CALLS_PER_ROUND, (double) bestTextFormatter / CALLS_PER_ROUND,
+                (double) bestStringFormat / bestTextFormatter);
+    }
+
+    private static long runStringFormat()
+    {
+        long length = 0;
+        for (int i = 0; i < CALLS_PER_ROUND; i++)
+        {
+            length += formatWithStringFormat(i * 37L - 500_000L).length();
+        }
+        return length;
+    }
+
+    private static long runTextFormatter()
+    {
+        long length = 0;
+        for (int i = 0; i < CALLS_PER_ROUND; i++)
+        {
+            length += Converters.minorUnitsToCurrencyString(i * 37L - 500_000L).length();
+        }
+        return length;
+    }
+
+    /**
+     * The previous implementation of <code>minorUnitsToCurrencyString</code>
+     */
+    private static String formatWithStringFormat(long minorUnits)
+    {
+        String sign = minorUnits < 0 ? "-" : "";
+        long absolute = Math.abs(minorUnits);
+        return String.format(Locale.getDefault(), "£%s%d.%02d", sign, absolute / 100, absolute % 100);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.budgetbuddy.utility;
 import junit.framework.TestCase;
 
 import java.util.Calendar;
+import java.util.Locale;
 
 /**
  * Tests the methods in the Converters utility class using arrange-act-assert pattern
@@ -10,6 +11,13 @@ import java.util.Calendar;
 public class ConvertersTest extends TestCase
 {
     private Calendar calendar;
+    private Locale defaultLocale;
+
+    // Locales with different zero digits (Latin, Arabic-Indic, Devanagari, Extended Arabic-Indic)
+    private static final Locale[] LOCALES = {
+            Locale.UK, Locale.FRANCE,
+            Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("hi-IN-u-nu-deva"), Locale.forLanguageTag("fa-IR")
+    };
 
 
     @Override
@@ -17,6 +25,14 @@ public class ConvertersTest extends TestCase
     {
         // Instantiate calendar instance
         calendar = Calendar.getInstance();
+        defaultLocale = Locale.getDefault();
+    }
+
+    @Override
+    protected void tearDown()
+    {
+        // Restore the locale changed by the locale tests
+        Locale.setDefault(defaultLocale);
     }
 
     public void testCalendarToHourMinute()
@@ -27,7 +43,7 @@ public class ConvertersTest extends TestCase
         String expected = "12:30";
 
         // Act - execute the test
-        String actual = Convertersold.calendarToHourMinute(calendar);
+        String actual = Converters.calendarToHourMinute(calendar);
 
         // Assert the two are equal
         assertEquals(expected, actual);
@@ -42,7 +58,7 @@ public class ConvertersTest extends TestCase
         String expected = "12/07/2026";     // Months are 0-indexed
 
         // Act
-        String actual = Convertersold.calendarToDayMonthYear(calendar);
+        String actual = Converters.calendarToDayMonthYear(calendar);
 
         // Assert
         assertEquals(expected, actual);
@@ -53,6 +69,42 @@ public class ConvertersTest extends TestCase
         double amount = 50;
         String expected = "£50.00";
 
-        assertEquals(expected, Convertersold.doubleToCurrencyString(amount));
+        assertEquals(expected, Converters.doubleToCurrencyString(amount));
+    }
+
+    public void testMinorUnitsToCurrencyString()
+    {
+        assertEquals("£50.00", Converters.minorUnitsToCurrencyString(5000));
+        assertEquals("£0.05", Converters.minorUnitsToCurrencyString(5));
+        assertEquals("£-12.34", Converters.minorUnitsToCurrencyString(-1234));
+    }
+
+    public void testFormattersMatchStringFormatInEveryLocale()
+    {
+        long[] amounts = {0, 5, -5, 99, 100, -1234, 123456789, Long.MAX_VALUE};
+
+        for (Locale locale : LOCALES)
+        {
+            Locale.setDefault(locale);
+
+            // Amounts - compare against the previous String.format implementation
+            for (long amount : amounts)
+            {
+                String sign = amount < 0 ? "-" : "";
+                long absolute = Math.abs(amount);
+                String expected = String.format(Locale.getDefault(), "£%s%d.%02d", sign, absolute / 100, absolute % 100);
+                assertEquals(expected, Converters.minorUnitsToCurrencyString(amount));
+            }
+
+            // Times and dates
+            for (int hour = 0; hour < 24; hour++)
+            {
+                calendar.set(2026, Calendar.JANUARY, hour + 1, hour, hour * 2);
+                assertEquals(String.format(Locale.getDefault(), "%02d:%02d", hour, hour * 2),
+                        Converters.calendarToHourMinute(calendar));
+                assertEquals(String.format(Locale.getDefault(), "%02d/%02d/%d", hour + 1, 1, 2026),
+                        Converters.calendarToDayMonthYear(calendar));
+            }
+        }
     }
-}
\ No newline at end of file
+}
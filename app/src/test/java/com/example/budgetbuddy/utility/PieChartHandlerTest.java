@@ -0,0 +1,62 @@
+package com.example.budgetbuddy.utility;
+
+import com.example.budgetbuddy.R;
+import com.example.budgetbuddy.domain.entities.Category;
+import com.example.budgetbuddy.domain.entities.CategoryTotal;
+import com.example.budgetbuddy.domain.entities.PieChartData;
+import com.example.budgetbuddy.domain.entities.PieChartSlice;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests the slices built by PieChartHandler, and that equal totals give equal PieChartData,
+ * using arrange-act-assert pattern
+ */
+public class PieChartHandlerTest extends TestCase
+{
+    private List<CategoryTotal> totals()
+    {
+        // Sorted largest first, as returned by the DAO
+        return Arrays.asList(
+                new CategoryTotal(new Category(1, "Shopping", R.color.red), 12500L),
+                new CategoryTotal(new Category(3, "Entertainment", R.color.green), 7500L),
+                new CategoryTotal(new Category(2, "Utilities", R.color.blue), 5000L));
+    }
+
+    public void testGetPieDataGroupsOther()
+    {
+        // Act
+        PieChartData data = PieChartHandler.getPieData(totals(), 2);
+
+        // Assert - top 2 named, the rest summed into "Other"
+        List<PieChartSlice> slices = data.getSlices();
+        assertEquals(3, slices.size());
+        assertEquals(new PieChartSlice("Shopping", 12500L, R.color.red), slices.get(0));
+        assertEquals(new PieChartSlice("Entertainment", 7500L, R.color.green), slices.get(1));
+        assertEquals(new PieChartSlice("Other", 5000L, R.color.budgetBlue), slices.get(2));
+        assertEquals(3, data.getLegendItems().size());
+    }
+
+    public void testEqualTotalsGiveEqualData()
+    {
+        // Built from separate lists, as each database emission is
+        assertEquals(PieChartHandler.getPieData(totals()), PieChartHandler.getPieData(new ArrayList<>(totals())));
+
+        // A moved amount is a change
+        List<CategoryTotal> changed = new ArrayList<>(totals());
+        changed.set(0, new CategoryTotal(new Category(1, "Shopping", R.color.red), 13000L));
+        assertFalse(PieChartHandler.getPieData(totals()).equals(PieChartHandler.getPieData(changed)));
+    }
+
+    public void testGetPieDataEmpty()
+    {
+        PieChartData data = PieChartHandler.getPieData(new ArrayList<>());
+
+        assertTrue(data.getSlices().isEmpty());
+        assertTrue(data.getLegendItems().isEmpty());
+    }
+}
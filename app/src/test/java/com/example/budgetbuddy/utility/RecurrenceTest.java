@@ -0,0 +1,117 @@
+package com.example.budgetbuddy.utility;
+
+import com.example.budgetbuddy.enums.RepeatDuration;
+
+import junit.framework.TestCase;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Tests the occurrence calculations in the Recurrence utility class using arrange-act-assert pattern
+ */
+public class RecurrenceTest extends TestCase
+{
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    public void testMonthlyFromMonthEndDoesNotDrift()
+    {
+        // Arrange - 31st January
+        long start = millis(LocalDateTime.of(2026, 1, 31, 9, 0));
+
+        // Act & Assert - clamped to the end of February, then back to the 31st
+        assertEquals(millis(LocalDateTime.of(2026, 2, 28, 9, 0)), Recurrence.occurrence(start, RepeatDuration.MONTHLY, 1, LONDON));
+        assertEquals(millis(LocalDateTime.of(2026, 3, 31, 9, 0)), Recurrence.occurrence(start, RepeatDuration.MONTHLY, 2, LONDON));
+    }
+
+    public void testDailyKeepsWallClockTimeAcrossDaylightSaving()
+    {
+        // Arrange - the clocks go forward on 29th March 2026
+        long start = millis(LocalDateTime.of(2026, 3, 28, 9, 0));
+
+        // Act
+        long next = Recurrence.occurrence(start, RepeatDuration.DAILY, 1, LONDON);
+
+        // Assert - still 09:00, only 23 hours later
+        assertEquals(millis(LocalDateTime.of(2026, 3, 29, 9, 0)), next);
+        assertEquals(23L * 60 * 60 * 1000, next - start);
+    }
+
+    public void testFirstIndexAfterMatchesLinearScan()
+    {
+        // Arrange
+        long start = millis(LocalDateTime.of(2024, 1, 31, 18, 30));
+        long[] watermarks = {
+                start - 1,
+                start,
+                millis(LocalDateTime.of(2024, 2, 29, 18, 30)),
+                millis(LocalDateTime.of(2025, 7, 15, 0, 0)),
+                millis(LocalDateTime.of(2026, 3, 31, 18, 29))
+        };
+
+        for (RepeatDuration duration : new RepeatDuration[]{RepeatDuration.DAILY, RepeatDuration.WEEKLY, RepeatDuration.MONTHLY, RepeatDuration.YEARLY})
+        {
+            for (long watermark : watermarks)
+            {
+                // Act
+                long index = Recurrence.firstIndexAfter(start, duration, watermark, LONDON);
+
+                // Assert - the same index as stepping through every occurrence
+                long expected = 0;
+                while (Recurrence.occurrence(start, duration, expected, LONDON) <= watermark)
+                {
+                    expected++;
+                }
+                assertEquals(duration + " after " + watermark, expected, index);
+            }
+        }
+    }
+
+    public void testIteratorYieldsOnlyOccurrencesInWindow()
+    {
+        // Arrange - weekly from 1st January, window 20th January to 5th February
+        long start = millis(LocalDateTime.of(2026, 1, 1, 12, 0));
+        long from = millis(LocalDateTime.of(2026, 1, 20, 0, 0));
+        long to = millis(LocalDateTime.of(2026, 2, 5, 12, 0));     // Exclusive, an occurrence falls exactly here
+
+        // Act
+        RecurrenceIterator iterator = new RecurrenceIterator(start, RepeatDuration.WEEKLY, from, to, LONDON);
+
+        // Assert
+        assertEquals(millis(LocalDateTime.of(2026, 1, 22, 12, 0)), iterator.nextLong());
+        assertEquals(millis(LocalDateTime.of(2026, 1, 29, 12, 0)), iterator.nextLong());
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testIteratorIncludesOccurrenceAtWindowStart()
+    {
+        // Arrange
+        long start = millis(LocalDateTime.of(2026, 1, 1, 12, 0));
+
+        // Act
+        RecurrenceIterator iterator = new RecurrenceIterator(start, RepeatDuration.DAILY, start, start + 1, LONDON);
+
+        // Assert
+        assertTrue(iterator.hasNext());
+        assertEquals(start, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testNeverHasNoOccurrences()
+    {
+        try
+        {
+            Recurrence.occurrence(0L, RepeatDuration.NEVER, 1, LONDON);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected)
+        {
+            // Pass
+        }
+    }
+
+
+    private static long millis(LocalDateTime dateTime)
+    {
+        return dateTime.atZone(LONDON).toInstant().toEpochMilli();
+    }
+}
@@ -12,10 +12,12 @@ import com.example.budgetbuddy.enums.TransactionType;
 import junit.framework.TestCase;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 public class TransactionUtilsTest extends TestCase {
     private List<TransactionWithCategory> transactions;
@@ -25,11 +27,11 @@ public class TransactionUtilsTest extends TestCase {
     protected void setUp() throws Exception {
         super.setUp();
 
-        // Setup categories
-        cat1 = new Category("Shopping", R.color.red);
-        cat2 = new Category("Utilities", R.color.blue);
-        cat3 = new Category("Entertainment", R.color.green);
-        cat4 = new Category("Income", R.color.yellow);
+        // Setup categories (totals are grouped by category ID, so each needs its own)
+        cat1 = new Category(1, "Shopping", R.color.red);
+        cat2 = new Category(2, "Utilities", R.color.blue);
+        cat3 = new Category(3, "Entertainment", R.color.green);
+        cat4 = new Category(4, "Income", R.color.yellow);
 
         // Setup transaction list
         transactions = new ArrayList<>();
@@ -37,28 +39,17 @@ public class TransactionUtilsTest extends TestCase {
 
         // Outgoings
         cal.set(2023, Calendar.JANUARY, 10);
-        transactions.add(new TransactionWithCategory(new Transaction(100, TransactionType.OUTGOING, (Calendar) cal.clone(), 0, RepeatDuration.NEVER), cat1));
+        transactions.add(new TransactionWithCategory(new Transaction(10000, TransactionType.OUTGOING, cal.getTimeInMillis(), 1, RepeatDuration.NEVER), cat1));
         cal.set(2023, Calendar.JANUARY, 12);
-        transactions.add(new TransactionWithCategory(new Transaction(50, TransactionType.OUTGOING, (Calendar) cal.clone(), 0, RepeatDuration.NEVER), cat2));
+        transactions.add(new TransactionWithCategory(new Transaction(5000, TransactionType.OUTGOING, cal.getTimeInMillis(), 2, RepeatDuration.NEVER), cat2));
         cal.set(2023, Calendar.JANUARY, 5);
-        transactions.add(new TransactionWithCategory(new Transaction(25, TransactionType.OUTGOING, (Calendar) cal.clone(), 0, RepeatDuration.NEVER), cat1));
+        transactions.add(new TransactionWithCategory(new Transaction(2500, TransactionType.OUTGOING, cal.getTimeInMillis(), 1, RepeatDuration.NEVER), cat1));
         cal.set(2023, Calendar.JANUARY, 15);
-        transactions.add(new TransactionWithCategory(new Transaction(75, TransactionType.OUTGOING, (Calendar) cal.clone(), 0, RepeatDuration.NEVER), cat3));
+        transactions.add(new TransactionWithCategory(new Transaction(7500, TransactionType.OUTGOING, cal.getTimeInMillis(), 3, RepeatDuration.NEVER), cat3));
 
         // Incoming transaction
         cal.set(2023, Calendar.JANUARY, 1);
-        transactions.add(new TransactionWithCategory(new Transaction(1000, TransactionType.INCOMING, (Calendar) cal.clone(), 0, RepeatDuration.NEVER), cat4));
-    }
-
-    public void testSortTransactions() {
-        List<TransactionWithCategory> sorted = TransactionUtils.sortTransactions(new ArrayList<>(transactions));
-
-        // Should be sorted in descending order of date
-        assertEquals("Entertainment", sorted.get(0).category.getName());    // Jan 15
-        assertEquals("Utilities", sorted.get(1).category.getName());        // Jan 12
-        assertEquals("Shopping", sorted.get(2).category.getName());         // Jan 10
-        assertEquals("Shopping", sorted.get(3).category.getName());         // Jan 5
-        assertEquals("Income", sorted.get(4).category.getName());           // Jan 1
+        transactions.add(new TransactionWithCategory(new Transaction(100000, TransactionType.INCOMING, cal.getTimeInMillis(), 4, RepeatDuration.NEVER), cat4));
     }
 
     public void testSelectRepeatDuration() {
@@ -71,80 +62,110 @@ public class TransactionUtilsTest extends TestCase {
     }
 
     public void testGetTotalSpend() {
-        double totalSpend = TransactionUtils.getTotalSpend(transactions);
+        long totalSpend = TransactionUtils.getTotalSpend(transactions);
 
-        // should only sum outgoings
-        assertEquals(250.0, totalSpend);
+        // should only sum outgoings (amounts are in pence)
+        assertEquals(25000L, totalSpend);
 
         // test empty list
-        assertEquals(0.0, TransactionUtils.getTotalSpend(new ArrayList<>()));
+        assertEquals(0L, TransactionUtils.getTotalSpend(new ArrayList<>()));
     }
 
     public void testGetBudgetRemaining() {
-        double startBudget = 500.0;
+        long startBudget = 50000L;
 
-        double remaining = TransactionUtils.getBudgetRemaining(startBudget, transactions);
+        long remaining = TransactionUtils.getBudgetRemaining(startBudget, transactions);
 
 
         // 500 + 1000 - 250 = 1250
-        assertEquals(1250.0, remaining);
+        assertEquals(125000L, remaining);
 
         // test empty list
         assertEquals(startBudget, TransactionUtils.getBudgetRemaining(startBudget, new ArrayList<>()));
     }
 
     public void testGetCategoryTotals() {
-        Map<Category, Double> totals = TransactionUtils.getCategoryTotals(transactions);
+        Map<Category, Long> totals = TransactionUtils.getCategoryTotals(transactions);
 
         // Should only contain outgoing transactions aggregated by category
-        assertEquals(3, totals.size());             // Shopping, Utilities, Entertainment
-        assertEquals(125.0, totals.get(cat1));      // shopping
-        assertEquals(50.0, totals.get(cat2));       // utilities
-        assertEquals(75.0, totals.get(cat3));       // entertainment
+        assertEquals(3, totals.size());                         // Shopping, Utilities, Entertainment
+        assertEquals(12500L, totals.get(cat1).longValue());     // shopping
+        assertEquals(5000L, totals.get(cat2).longValue());      // utilities
+        assertEquals(7500L, totals.get(cat3).longValue());      // entertainment
         assertNull(totals.get(cat4));                       // incomings are not included in spending
     }
 
     public void testGetSortedCategoryTotals() {
-        List<Map.Entry<Category, Double>> sortedTotals = TransactionUtils.getSortedCategoryTotals(transactions);
+        List<Map.Entry<Category, Long>> sortedTotals = TransactionUtils.getSortedCategoryTotals(transactions);
 
         // Should be sorted in descending order
         assertEquals(3, sortedTotals.size());
-        assertEquals(cat1, sortedTotals.get(0).getKey());               // shopping = 125.0
-        assertEquals(125.0, sortedTotals.get(0).getValue());
-        assertEquals(cat3, sortedTotals.get(1).getKey());               // entertainment = 75.0
-        assertEquals(75.0, sortedTotals.get(1).getValue());
-        assertEquals(cat2, sortedTotals.get(2).getKey());               // utilities = 50.0
-        assertEquals(50.0, sortedTotals.get(2).getValue());
+        assertEquals(cat1, sortedTotals.get(0).getKey());               // shopping = 125.00
+        assertEquals(12500L, sortedTotals.get(0).getValue().longValue());
+        assertEquals(cat3, sortedTotals.get(1).getKey());               // entertainment = 75.00
+        assertEquals(7500L, sortedTotals.get(1).getValue().longValue());
+        assertEquals(cat2, sortedTotals.get(2).getKey());               // utilities = 50.00
+        assertEquals(5000L, sortedTotals.get(2).getValue().longValue());
     }
 
     public void testGetTopNCategoryTotals() {
         int topN = 2;
 
-        Pair<List<Map.Entry<Category, Double>>, Map.Entry<String, Double>> result =
+        Pair<List<Map.Entry<Category, Long>>, Map.Entry<String, Long>> result =
                 TransactionUtils.getTopNCategoryTotals(transactions, topN);
 
-        List<Map.Entry<Category, Double>> namedCategories = result.first;
-        Map.Entry<String, Double> otherCategory = result.second;
+        List<Map.Entry<Category, Long>> namedCategories = result.first;
+        Map.Entry<String, Long> otherCategory = result.second;
 
         // Named categories should be the top 2
         assertEquals(2, namedCategories.size());
-        assertEquals(cat1, namedCategories.get(0).getKey()); // shopping = 125.0
-        assertEquals(cat3, namedCategories.get(1).getKey()); // entertainment = 75.0
+        assertEquals(cat1, namedCategories.get(0).getKey()); // shopping = 125.00
+        assertEquals(cat3, namedCategories.get(1).getKey()); // entertainment = 75.00
 
         // other category should have sum of all others
         assertEquals("Other", otherCategory.getKey());
-        assertEquals(50.0, otherCategory.getValue());
+        assertEquals(5000L, otherCategory.getValue().longValue());
 
         // N larger than categories
         result = TransactionUtils.getTopNCategoryTotals(transactions, 5);
         assertEquals(3, result.first.size()); // Should just return all 3 categories
-        assertEquals(0.0, result.second.getValue());   // other total should be 0
+        assertEquals(0L, result.second.getValue().longValue());   // other total should be 0
 
         // test empty list
         result = TransactionUtils.getTopNCategoryTotals(Collections.emptyList(), topN);
         assertNotNull(result);
         assertTrue(result.first.isEmpty());
         assertEquals("Other", result.second.getKey());
-        assertEquals(0.0, result.second.getValue());
+        assertEquals(0L, result.second.getValue().longValue());
+    }
+
+    public void testGetTopNCategoryTotalsMatchesFullSort() {
+        // Ties on every total, plus a random spread, against the sort-then-slice reference
+        List<TransactionWithCategory> tied = new ArrayList<>();
+        List<TransactionWithCategory> spread = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            Category category = new Category(i % 10, "Category " + (i % 10), R.color.red);
+            tied.add(new TransactionWithCategory(new Transaction(500, TransactionType.OUTGOING, i, i % 10, RepeatDuration.NEVER), category));
+            spread.add(new TransactionWithCategory(new Transaction(1 + random.nextInt(20) * 100, TransactionType.OUTGOING, i, i % 10, RepeatDuration.NEVER), category));
+        }
+
+        for (List<TransactionWithCategory> list : Arrays.asList(transactions, tied, spread)) {
+            for (int topN = 0; topN <= 12; topN++) {
+                // Reference: the full descending sort, sliced at topN
+                List<Map.Entry<Category, Long>> sorted = TransactionUtils.getSortedCategoryTotals(list);
+                int limit = Math.min(sorted.size(), topN);
+                long expectedOther = 0L;
+                for (Map.Entry<Category, Long> entry : sorted.subList(limit, sorted.size())) {
+                    expectedOther += entry.getValue();
+                }
+
+                Pair<List<Map.Entry<Category, Long>>, Map.Entry<String, Long>> result =
+                        TransactionUtils.getTopNCategoryTotals(list, topN);
+
+                assertEquals(sorted.subList(0, limit), result.first);
+                assertEquals(expectedOther, result.second.getValue().longValue());
+            }
+        }
     }
 }